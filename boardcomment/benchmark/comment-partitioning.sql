@@ -0,0 +1,79 @@
+-- comments 파티션 전/후 비교용 합성 데이터 벤치마크 (MySQL 8.0+)
+-- 실행: mysql -u root -p study_db < benchmark/comment-partitioning.sql
+-- 운영 테이블은 건드리지 않고 bench_comments_flat(기존 구조) / bench_comments_part(V5 구조)를 만들어 비교한 뒤 지운다.
+-- 결과를 비교할 때는 EXPLAIN의 partitions 열(한 파티션만 나와야 함)과 EXPLAIN ANALYZE의 실제 시간을 본다.
+-- 아직 실행한 적이 없어 기록된 결과가 없다. 파티셔닝의 이득/손해는 이 스크립트를 실제 MySQL에서 돌려 확인해야 한다.
+-- 한 파티션만 읽는 것은 board_id 조건이 있는 쿼리뿐이다. id만으로 찾는 조회/수정/삭제는 모든 파티션을 확인하므로
+-- 아래 마지막 비교(id 단건 조회)로 그 비용도 함께 본다.
+
+SET @boards = 100000;          -- 게시물 수
+SET @comments_per_board = 200; -- 게시물당 평균 댓글 수 → 2천만 행
+SET @deleted_ratio = 0.2;      -- soft delete 된 행 비율
+
+DROP TABLE IF EXISTS bench_comments_flat, bench_comments_part, bench_seq;
+
+CREATE TABLE bench_comments_flat LIKE comments;
+ALTER TABLE bench_comments_flat REMOVE PARTITIONING;
+ALTER TABLE bench_comments_flat DROP PRIMARY KEY, ADD PRIMARY KEY (id);
+
+CREATE TABLE bench_comments_part LIKE bench_comments_flat;
+ALTER TABLE bench_comments_part DROP PRIMARY KEY, ADD PRIMARY KEY (id, board_id);
+ALTER TABLE bench_comments_part PARTITION BY HASH (board_id) PARTITIONS 16;
+
+-- 0 ~ 999,999 숫자열
+CREATE TABLE bench_seq (n INT NOT NULL PRIMARY KEY);
+INSERT INTO bench_seq (n)
+WITH RECURSIVE digits (d) AS (SELECT 0 UNION ALL SELECT d + 1 FROM digits WHERE d < 9)
+SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + f.d * 10000 + g.d * 100000
+FROM digits a, digits b, digits c, digits e, digits f, digits g;
+
+-- 댓글은 게시물에 무작위로 흩어 쓰인 것처럼 id 순서와 board_id 순서를 섞는다
+INSERT INTO bench_comments_flat (content, username, board_id, parent_id, root_id, depth, path, version,
+                                 created_at, updated_at, deleted_at)
+SELECT CONCAT('comment ', s.n, '-', r.n),
+       CONCAT('user', MOD(s.n * 7 + r.n, 5000)),
+       1 + MOD(s.n * 7919 + r.n, @boards),
+       NULL, NULL, 0, NULL, 0,
+       NOW(6), NOW(6),
+       IF(RAND() < @deleted_ratio, NOW(6), NULL)
+FROM bench_seq s
+         JOIN bench_seq r ON r.n < CEIL(@boards * @comments_per_board / 1000000)
+WHERE s.n < 1000000;
+
+INSERT INTO bench_comments_part SELECT * FROM bench_comments_flat;
+ANALYZE TABLE bench_comments_flat, bench_comments_part;
+
+-- 게시물 id는 리터럴로 둔다 (EXPLAIN이 실행 전에 파티션을 정할 수 있도록)
+-- CommentRepository.findAllByBoardId
+EXPLAIN SELECT * FROM bench_comments_flat WHERE board_id = 4242 AND deleted_at IS NULL;
+EXPLAIN SELECT * FROM bench_comments_part WHERE board_id = 4242 AND deleted_at IS NULL;
+EXPLAIN ANALYZE SELECT * FROM bench_comments_flat WHERE board_id = 4242 AND deleted_at IS NULL;
+EXPLAIN ANALYZE SELECT * FROM bench_comments_part WHERE board_id = 4242 AND deleted_at IS NULL;
+
+-- CommentRepository.findAllByBoardIdAndParentIdIsNullOrderByIdAsc
+EXPLAIN ANALYZE SELECT * FROM bench_comments_flat
+WHERE board_id = 4242 AND parent_id IS NULL AND deleted_at IS NULL ORDER BY id LIMIT 20;
+EXPLAIN ANALYZE SELECT * FROM bench_comments_part
+WHERE board_id = 4242 AND parent_id IS NULL AND deleted_at IS NULL ORDER BY id LIMIT 20;
+
+-- CommentRepository.countByBoardIds (피드 한 페이지)
+EXPLAIN ANALYZE SELECT board_id, COUNT(*) FROM bench_comments_flat
+WHERE board_id IN (1, 2, 3, 4, 5, 6, 7, 8, 9, 10) AND deleted_at IS NULL GROUP BY board_id;
+EXPLAIN ANALYZE SELECT board_id, COUNT(*) FROM bench_comments_part
+WHERE board_id IN (1, 2, 3, 4, 5, 6, 7, 8, 9, 10) AND deleted_at IS NULL GROUP BY board_id;
+
+-- findById, updateContent, 엔티티 수정, @SQLDelete soft delete: board_id가 없어 모든 파티션의 기본 키를 확인한다
+-- (partitions 열에 p0~p15)
+EXPLAIN ANALYZE SELECT * FROM bench_comments_flat WHERE id = 12345;
+EXPLAIN ANALYZE SELECT * FROM bench_comments_part WHERE id = 12345;
+EXPLAIN UPDATE bench_comments_part SET content = 'edited' WHERE id = 12345 AND deleted_at IS NULL;
+EXPLAIN UPDATE bench_comments_part SET deleted_at = NOW() WHERE id = 12345;
+
+-- 인덱스 깊이/크기 비교
+SELECT table_name, partition_name, table_rows,
+       ROUND(data_length / 1024 / 1024) AS data_mb, ROUND(index_length / 1024 / 1024) AS index_mb
+FROM information_schema.partitions
+WHERE table_schema = DATABASE() AND table_name IN ('bench_comments_flat', 'bench_comments_part')
+ORDER BY table_name, partition_ordinal_position;
+
+DROP TABLE bench_comments_flat, bench_comments_part, bench_seq;
@@ -0,0 +1,210 @@
+package com.brightcha.boardcomment.cache;
+
+import com.brightcha.boardcomment.cache.invalidation.InvalidationProperties;
+import com.brightcha.boardcomment.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 존재하지 않는 게시물 id에 대한 DB 조회를 줄이기 위한 필터.
+ * <ul>
+ *     <li>살아 있는 게시물 id의 Bloom filter: 시작 시 재구성하고 생성 시 추가한다. "없음" 판정은 확실하다.</li>
+ *     <li>짧은 TTL의 negative cache: 삭제된 id와 Bloom filter 오탐으로 DB에서 확인된 없는 id를 기억한다.</li>
+ * </ul>
+ * Bloom filter가 준비되기 전에는 negative cache만 사용한다.
+ * 다른 인스턴스에서 만든 게시물은 무효화 전송으로만 알 수 있으므로, 켜짐 여부를 지정하지 않으면 loopback 전송에서는 끈다.
+ * 여러 인스턴스를 loopback으로 띄우면 다른 인스턴스의 새 게시물이 재구성 전까지 "확실히 없음"으로 판정되기 때문이다.
+ * 재구성은 한 번에 하나만 실행되며, 실행 중에 들어온 요청은 끝난 뒤 한 번 더 실행하는 것으로 합쳐진다.
+ */
+@Slf4j
+@Component
+public class BoardExistenceFilter {
+
+    private final BoardRepository boardRepository;
+    private final BoardExistenceFilterProperties properties;
+    private final boolean enabled;
+    private final ConcurrentMap<Long, Long> negativeCache = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean();
+
+    private volatile BloomFilter liveIds;
+    private volatile BloomFilter rebuilding;
+
+    public BoardExistenceFilter(BoardRepository boardRepository, BoardExistenceFilterProperties properties,
+                                InvalidationProperties invalidationProperties) {
+        this.boardRepository = boardRepository;
+        this.properties = properties;
+        this.enabled = properties.enabled() != null
+                ? properties.enabled()
+                : invalidationProperties.transport() == InvalidationProperties.Transport.MULTICAST;
+        if (properties.enabled() == null && !enabled) {
+            log.info("Board existence filter disabled: invalidation transport {} does not deliver creations from other instances",
+                    invalidationProperties.transport());
+        }
+    }
+
+    public boolean definitelyMissing(Long boardId) {
+        if (!enabled || boardId == null) {
+            return false;
+        }
+        Long expiresAt = negativeCache.get(boardId);
+        if (expiresAt != null) {
+            if (expiresAt - System.nanoTime() > 0) {
+                return true;
+            }
+            negativeCache.remove(boardId, expiresAt);
+        }
+        BloomFilter filter = liveIds;
+        return filter != null && !filter.mightContain(boardId);
+    }
+
+    public void markMissing(Long boardId) {
+        if (!enabled || boardId == null) {
+            return;
+        }
+        if (negativeCache.size() >= properties.negativeMaxSize()) {
+            evictExpired();
+        }
+        if (negativeCache.size() < properties.negativeMaxSize()) {
+            negativeCache.put(boardId, System.nanoTime() + properties.negativeTtl().toNanos());
+        }
+    }
+
+    public void registerCreated(Long boardId) {
+        addToFilters(boardId);
+        negativeCache.remove(boardId);
+        // 커밋 전에 다른 요청이 이 id를 조회해 negative cache에 넣었을 수 있으므로 커밋 후 한 번 더 지운다.
+        // 커밋 전에 시작된 재구성은 이 행을 읽지 못하므로 커밋 후 필터에도 다시 넣는다
+        afterCommit(() -> {
+            addToFilters(boardId);
+            negativeCache.remove(boardId);
+        });
+    }
+
+    public void registerDeleted(Long boardId) {
+        afterCommit(() -> markMissing(boardId));
+    }
+
+    /**
+     * 다른 인스턴스에서 생성/변경된 게시물. 트랜잭션은 이미 그쪽에서 커밋됐다.
+     */
+    public void registerRemoteChange(Long boardId) {
+        addToFilters(boardId);
+        negativeCache.remove(boardId);
+    }
+
+    /**
+     * 다른 인스턴스의 생성 알림을 놓쳤을 수 있을 때 호출한다. 재구성이 끝나 교체될 때까지 기존 filter를 그대로 쓰므로
+     * 놓친 게시물은 재구성 시간 동안 없는 것으로 보일 수 있다. 유실이 잦아도 재구성은 한 번에 하나만 실행된다.
+     */
+    public void reset() {
+        negativeCache.clear();
+        rebuildInBackground();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        rebuildRequested.set(true);
+        if (!rebuildRunning.compareAndSet(false, true)) {
+            return;
+        }
+        // 게시물 수에 비례하는 작업이므로 트래픽 수신(readiness)을 막지 않도록 별도 스레드에서 수행한다
+        Thread thread = new Thread(this::drainRebuildRequests, "board-filter-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 재구성을 호출한 스레드에서 실행한다. 이미 실행 중이면 그 실행이 끝난 뒤 한 번 더 하도록 요청만 남긴다.
+     */
+    public void rebuild() {
+        rebuildRequested.set(true);
+        if (rebuildRunning.compareAndSet(false, true)) {
+            drainRebuildRequests();
+        }
+    }
+
+    private void drainRebuildRequests() {
+        do {
+            try {
+                while (rebuildRequested.getAndSet(false)) {
+                    rebuildOnce();
+                }
+            } finally {
+                rebuildRunning.set(false);
+            }
+            // 플래그를 내리는 사이에 들어온 요청을 놓치지 않는다
+        } while (rebuildRequested.get() && rebuildRunning.compareAndSet(false, true));
+    }
+
+    private void rebuildOnce() {
+        if (!enabled) {
+            return;
+        }
+        // 조회를 시작하기 전에 공개해야 그 뒤에 커밋되는 생성이 이 필터에 들어온다 (registerCreated의 afterCommit)
+        BloomFilter filter = BloomFilter.create(properties.expectedInsertions(), properties.falsePositiveRate());
+        rebuilding = filter;
+        long count = 0;
+        long lastId = 0L;
+        try {
+            List<Long> ids;
+            do {
+                ids = boardRepository.findIdsAfter(lastId, PageRequest.of(0, properties.rebuildChunkSize()));
+                for (Long id : ids) {
+                    filter.put(id);
+                }
+                count += ids.size();
+                if (!ids.isEmpty()) {
+                    lastId = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == properties.rebuildChunkSize());
+            liveIds = filter;
+            log.info("Board existence filter rebuilt with {} ids", count);
+        } catch (RuntimeException e) {
+            log.warn("Board existence filter rebuild failed, keeping the previous filter", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void addToFilters(Long boardId) {
+        // 재구성은 liveIds를 바꾼 뒤 rebuilding을 비우므로 rebuilding을 먼저 읽어야 새 필터를 놓치지 않는다
+        BloomFilter building = rebuilding;
+        if (building != null) {
+            building.put(boardId);
+        }
+        BloomFilter filter = liveIds;
+        if (filter != null) {
+            filter.put(boardId);
+        }
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        negativeCache.entrySet().removeIf(entry -> entry.getValue() - now <= 0);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
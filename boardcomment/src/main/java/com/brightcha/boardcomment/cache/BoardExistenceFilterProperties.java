@@ -0,0 +1,18 @@
+package com.brightcha.boardcomment.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.board-filter")
+public record BoardExistenceFilterProperties(
+        // 지정하지 않으면 다른 인스턴스의 생성이 전달되는 무효화 전송(multicast)일 때만 켠다
+        Boolean enabled,
+        @DefaultValue("1000000") long expectedInsertions,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("5s") Duration negativeTtl,
+        @DefaultValue("100000") int negativeMaxSize,
+        @DefaultValue("10000") int rebuildChunkSize
+) {
+}
@@ -0,0 +1,237 @@
+package com.brightcha.boardcomment.cache.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 인스턴스 간 캐시 무효화 버스.
+ * <ul>
+ *     <li>같은 키의 무효화는 다음 flush 전까지 하나로 합쳐진다. 쓰기가 몰리는 게시물도 flush 주기당 한 번만 전송한다.</li>
+ *     <li>메시지마다 보낸 인스턴스의 순번이 붙는다. 수신 측은 순번이 건너뛰면 유실로 보고 로컬 캐시 전체를 비운다.</li>
+ *     <li>보낼 것이 없어도 heartbeat로 마지막 순번을 알리므로, 마지막 메시지가 유실돼도 heartbeat 주기 안에 감지된다.</li>
+ * </ul>
+ * 무효화는 outbox 이벤트 핸들러({@link InvalidationEventHandler})가 넣으므로, 다른 인스턴스의 캐시가 오래된 값을
+ * 보여주는 시간은 커밋부터 다음과 같다 (전송 지연 제외).
+ * <ul>
+ *     <li>정상: 이벤트 디스패처 지연 + flush 주기</li>
+ *     <li>전송 유실: 여기에 heartbeat 주기가 더해진다. heartbeat는 전송 구간의 유실만 감지한다.</li>
+ *     <li>디스패처 큐가 가득 찼거나 핸들러가 실패해 relay가 다시 전달할 때: app.events.relay-grace + relay-interval
+ *     (기본 15초)까지, relay가 가져간 뒤 인스턴스가 죽으면 claim-lease(기본 1분)가 더해진다.</li>
+ * </ul>
+ */
+@Slf4j
+public class InvalidationBus implements SmartLifecycle {
+
+    private static final byte VERSION = 1;
+    private static final byte KIND_INVALIDATE = 1;
+    private static final byte KIND_HEARTBEAT = 2;
+    // version, kind, origin(16), sequence(8), key count(2)
+    private static final int HEADER_SIZE = 1 + 1 + 16 + 8 + 2;
+    private static final int KEY_SIZE = 1 + 8;
+    private static final InvalidationKey.Type[] TYPES = InvalidationKey.Type.values();
+    // heartbeat를 이만큼 연속으로 놓친 인스턴스는 종료된 것으로 보고 순번 추적을 멈춘다
+    private static final int PEER_EXPIRY_HEARTBEATS = 10;
+
+    private final InvalidationTransport transport;
+    private final List<InvalidationListener> listeners;
+    private final InvalidationProperties properties;
+    private final LongSupplier nanoClock;
+    private final UUID origin = UUID.randomUUID();
+    private final Set<InvalidationKey> pending = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<UUID, Peer> peers = new ConcurrentHashMap<>();
+    private final int keysPerMessage;
+
+    // flush 스레드에서만 변경
+    private long sequence;
+    private long lastSentAt;
+    private long startedAt;
+
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+
+    public InvalidationBus(InvalidationTransport transport, List<InvalidationListener> listeners,
+                           InvalidationProperties properties) {
+        this(transport, listeners, properties, System::nanoTime);
+    }
+
+    InvalidationBus(InvalidationTransport transport, List<InvalidationListener> listeners,
+                    InvalidationProperties properties, LongSupplier nanoClock) {
+        this.transport = transport;
+        this.listeners = listeners;
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.keysPerMessage = (transport.maxMessageSize() - HEADER_SIZE) / KEY_SIZE;
+        this.lastSentAt = nanoClock.getAsLong();
+    }
+
+    public void invalidate(InvalidationKey key) {
+        pending.add(key);
+    }
+
+    @Override
+    public void start() {
+        startedAt = nanoClock.getAsLong();
+        transport.start(this::receive);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "invalidation-bus");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.flushInterval().toNanos();
+        scheduler.scheduleWithFixedDelay(this::tick, interval, interval, TimeUnit.NANOSECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 종료 직전의 변경도 전달되도록 남은 무효화를 보낸다
+        flush();
+        transport.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void tick() {
+        try {
+            flush();
+            long now = nanoClock.getAsLong();
+            if (now - lastSentAt >= properties.heartbeatInterval().toNanos()) {
+                send(KIND_HEARTBEAT, sequence, List.of());
+            }
+            long expiry = properties.heartbeatInterval().toNanos() * PEER_EXPIRY_HEARTBEATS;
+            peers.values().removeIf(peer -> now - peer.lastHeardAt > expiry);
+        } catch (RuntimeException e) {
+            log.warn("Invalidation bus tick failed", e);
+        }
+    }
+
+    synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<InvalidationKey> chunk = new ArrayList<>(keysPerMessage);
+        Iterator<InvalidationKey> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            // 보내기 전에 지워야 그 사이 다시 들어온 같은 키가 다음 flush에서 빠지지 않는다
+            iterator.remove();
+            if (chunk.size() == keysPerMessage) {
+                send(KIND_INVALIDATE, ++sequence, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            send(KIND_INVALIDATE, ++sequence, chunk);
+        }
+    }
+
+    private void send(byte kind, long seq, List<InvalidationKey> keys) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + keys.size() * KEY_SIZE)
+                .put(VERSION)
+                .put(kind)
+                .putLong(origin.getMostSignificantBits())
+                .putLong(origin.getLeastSignificantBits())
+                .putLong(seq)
+                .putShort((short) keys.size());
+        for (InvalidationKey key : keys) {
+            buffer.put((byte) key.type().ordinal()).putLong(key.id());
+        }
+        transport.send(buffer.flip());
+        lastSentAt = nanoClock.getAsLong();
+    }
+
+    void receive(ByteBuffer message) {
+        List<InvalidationKey> keys;
+        UUID sender;
+        byte kind;
+        long seq;
+        try {
+            if (message.get() != VERSION) {
+                return;
+            }
+            kind = message.get();
+            sender = new UUID(message.getLong(), message.getLong());
+            seq = message.getLong();
+            int count = Short.toUnsignedInt(message.getShort());
+            keys = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                keys.add(new InvalidationKey(TYPES[message.get()], message.getLong()));
+            }
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            log.warn("Discarding malformed invalidation message");
+            return;
+        }
+        if (origin.equals(sender)) {
+            return;
+        }
+        if (isGap(sender, kind, seq)) {
+            log.warn("Invalidation messages from {} were lost, evicting local caches", sender);
+            listeners.forEach(InvalidationListener::onGap);
+        }
+        if (kind == KIND_INVALIDATE && !keys.isEmpty()) {
+            listeners.forEach(listener -> listener.onInvalidate(keys));
+        }
+    }
+
+    /**
+     * 무효화 메시지는 직전 순번 + 1이어야 하고 heartbeat는 직전 순번과 같아야 한다.
+     * 처음 보는 인스턴스는 순번 1부터 받은 경우만 빠짐없이 받았다고 본다. 다만 이 인스턴스가 막 시작해
+     * 아직 heartbeat를 한 바퀴 다 받지 못한 동안은, 시작 전에 보낸 메시지가 채워진 캐시에 영향이 없으므로 기준점으로 삼는다.
+     */
+    private boolean isGap(UUID sender, byte kind, long seq) {
+        long now = nanoClock.getAsLong();
+        long expected = kind == KIND_INVALIDATE ? seq - 1 : seq;
+        Peer peer = peers.get(sender);
+        if (peer == null) {
+            boolean warmingUp = now - startedAt < properties.heartbeatInterval().toNanos() * 2;
+            Peer created = new Peer(warmingUp ? expected : 0L);
+            peer = Objects.requireNonNullElse(peers.putIfAbsent(sender, created), created);
+        }
+        synchronized (peer) {
+            peer.lastHeardAt = now;
+            long last = peer.lastSequence;
+            if (seq <= last) {
+                // 순서가 뒤바뀌어 늦게 도착한 메시지: 이미 유실로 처리했거나 중복
+                return false;
+            }
+            peer.lastSequence = Math.max(last, seq);
+            return last != expected;
+        }
+    }
+
+    private static final class Peer {
+        private long lastSequence;
+        private long lastHeardAt;
+
+        private Peer(long lastSequence) {
+            this.lastSequence = lastSequence;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.brightcha.boardcomment.cache.invalidation;
+
+import com.brightcha.boardcomment.event.DomainEvent;
+import com.brightcha.boardcomment.event.DomainEventHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 커밋된 게시물/댓글 변경을 다른 인스턴스에 알린다. 이 인스턴스의 캐시는 Hibernate가 이미 갱신했다.
+ */
+@Component
+public class InvalidationEventHandler implements DomainEventHandler {
+
+    private final InvalidationBus invalidationBus;
+
+    public InvalidationEventHandler(InvalidationBus invalidationBus) {
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public void handle(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (event instanceof DomainEvent.BoardCreated created) {
+                invalidationBus.invalidate(InvalidationKey.board(created.boardId()));
+            } else if (event instanceof DomainEvent.BoardUpdated updated) {
+                invalidationBus.invalidate(InvalidationKey.board(updated.boardId()));
+            } else if (event instanceof DomainEvent.BoardDeleted deleted) {
+                invalidationBus.invalidate(InvalidationKey.board(deleted.boardId()));
+            } else if (event instanceof DomainEvent.CommentCreated created) {
+                invalidationBus.invalidate(InvalidationKey.comment(created.commentId()));
+            } else if (event instanceof DomainEvent.CommentUpdated updated) {
+                invalidationBus.invalidate(InvalidationKey.comment(updated.commentId()));
+            } else if (event instanceof DomainEvent.CommentDeleted deleted) {
+                invalidationBus.invalidate(InvalidationKey.comment(deleted.commentId()));
+            }
+        }
+    }
+}
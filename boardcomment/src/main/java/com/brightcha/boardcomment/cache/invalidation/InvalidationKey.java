@@ -0,0 +1,16 @@
+package com.brightcha.boardcomment.cache.invalidation;
+
+public record InvalidationKey(Type type, long id) {
+
+    public enum Type {
+        BOARD, COMMENT
+    }
+
+    public static InvalidationKey board(long boardId) {
+        return new InvalidationKey(Type.BOARD, boardId);
+    }
+
+    public static InvalidationKey comment(long commentId) {
+        return new InvalidationKey(Type.COMMENT, commentId);
+    }
+}
@@ -0,0 +1,16 @@
+package com.brightcha.boardcomment.cache.invalidation;
+
+import java.util.Collection;
+
+/**
+ * 다른 인스턴스에서 변경된 항목을 로컬 캐시에서 지운다.
+ */
+public interface InvalidationListener {
+
+    void onInvalidate(Collection<InvalidationKey> keys);
+
+    /**
+     * 메시지 유실이 감지되어 어떤 항목이 바뀌었는지 알 수 없을 때 호출된다. 로컬 캐시 전체를 비워야 한다.
+     */
+    void onGap();
+}
@@ -0,0 +1,28 @@
+package com.brightcha.boardcomment.cache.invalidation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.invalidation")
+public record InvalidationProperties(
+        @DefaultValue("loopback") Transport transport,
+        @DefaultValue("50ms") Duration flushInterval,
+        @DefaultValue("1s") Duration heartbeatInterval,
+        @DefaultValue Multicast multicast
+) {
+
+    public enum Transport {
+        LOOPBACK, MULTICAST
+    }
+
+    public record Multicast(
+            @DefaultValue("239.255.27.1") String group,
+            @DefaultValue("45700") int port,
+            // transport가 multicast이면 필수. 호스트 이름으로 추측하면 루프백이나 엉뚱한 인터페이스를 고를 수 있다
+            String networkInterface,
+            @DefaultValue("1") int timeToLive
+    ) {
+    }
+}
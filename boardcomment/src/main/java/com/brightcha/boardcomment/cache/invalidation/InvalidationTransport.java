@@ -0,0 +1,23 @@
+package com.brightcha.boardcomment.cache.invalidation;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 간 무효화 메시지 전송 수단. 전달 순서와 도달을 보장하지 않아도 되며(유실은 순번으로 감지),
+ * 자신이 보낸 메시지를 되돌려 받아도 된다.
+ */
+public interface InvalidationTransport extends AutoCloseable {
+
+    void start(Consumer<ByteBuffer> receiver);
+
+    void send(ByteBuffer message);
+
+    /**
+     * 한 메시지의 최대 바이트 수. 버스는 이보다 큰 무효화 묶음을 나눠 보낸다.
+     */
+    int maxMessageSize();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,54 @@
+package com.brightcha.boardcomment.cache.invalidation;
+
+import com.brightcha.boardcomment.cache.BoardExistenceFilter;
+import com.brightcha.boardcomment.entity.Board;
+import com.brightcha.boardcomment.entity.Comment;
+import com.brightcha.boardcomment.repository.CommentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 다른 인스턴스의 변경을 이 인스턴스의 2차 캐시와 게시물 존재 필터에 반영한다.
+ */
+@Component
+public class LocalCacheInvalidator implements InvalidationListener {
+
+    private final Cache cache;
+    private final BoardExistenceFilter boardExistenceFilter;
+
+    public LocalCacheInvalidator(EntityManagerFactory entityManagerFactory, BoardExistenceFilter boardExistenceFilter) {
+        this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        this.boardExistenceFilter = boardExistenceFilter;
+    }
+
+    @Override
+    public void onInvalidate(Collection<InvalidationKey> keys) {
+        boolean commentChanged = false;
+        for (InvalidationKey key : keys) {
+            switch (key.type()) {
+                case BOARD -> {
+                    cache.evictEntityData(Board.class, key.id());
+                    // 생성된 게시물일 수 있으므로 Bloom filter에 넣어 404로 판정되지 않게 한다
+                    boardExistenceFilter.registerRemoteChange(key.id());
+                }
+                case COMMENT -> {
+                    cache.evictEntityData(Comment.class, key.id());
+                    commentChanged = true;
+                }
+            }
+        }
+        if (commentChanged) {
+            // 게시물별 댓글 목록 쿼리 캐시는 키 단위로 지울 수 없어 region 전체를 비운다
+            cache.evictQueryRegion(CommentRepository.BY_BOARD_QUERY_REGION);
+        }
+    }
+
+    @Override
+    public void onGap() {
+        cache.evictAllRegions();
+        boardExistenceFilter.reset();
+    }
+}
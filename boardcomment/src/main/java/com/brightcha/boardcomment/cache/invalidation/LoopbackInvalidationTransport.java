@@ -0,0 +1,51 @@
+package com.brightcha.boardcomment.cache.invalidation;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+/**
+ * 같은 {@link Network}에 연결된 전송끼리 프로세스 안에서 메시지를 주고받는다.
+ * 단일 인스턴스 배포(피어 없음)와 여러 버스를 한 JVM에 띄우는 테스트에 쓴다.
+ */
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private static final int MAX_MESSAGE_SIZE = 1400;
+
+    private final Network network;
+    private volatile Consumer<ByteBuffer> receiver;
+
+    public LoopbackInvalidationTransport(Network network) {
+        this.network = network;
+    }
+
+    @Override
+    public void start(Consumer<ByteBuffer> receiver) {
+        this.receiver = receiver;
+        network.members.add(this);
+    }
+
+    @Override
+    public void send(ByteBuffer message) {
+        for (LoopbackInvalidationTransport member : network.members) {
+            if (member != this && member.receiver != null) {
+                member.receiver.accept(message.asReadOnlyBuffer());
+            }
+        }
+    }
+
+    @Override
+    public int maxMessageSize() {
+        return MAX_MESSAGE_SIZE;
+    }
+
+    @Override
+    public void close() {
+        network.members.remove(this);
+    }
+
+    public static final class Network {
+        private final Set<LoopbackInvalidationTransport> members = new CopyOnWriteArraySet<>();
+    }
+}
@@ -0,0 +1,112 @@
+package com.brightcha.boardcomment.cache.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.MembershipKey;
+import java.util.function.Consumer;
+
+/**
+ * UDP 멀티캐스트 전송. 같은 네트워크 세그먼트의 인스턴스들이 별도 브로커 없이 무효화를 주고받는다.
+ * 유실될 수 있으므로 버스의 순번/하트비트로 유실을 감지한다.
+ */
+@Slf4j
+public class MulticastInvalidationTransport implements InvalidationTransport {
+
+    // 경로상 단편화를 피하도록 일반적인 MTU 안쪽으로 제한
+    private static final int MAX_MESSAGE_SIZE = 1400;
+
+    private final InetSocketAddress group;
+    private final NetworkInterface networkInterface;
+    private final int timeToLive;
+    private DatagramChannel channel;
+    private MembershipKey membership;
+    private Thread receiverThread;
+
+    public MulticastInvalidationTransport(String groupAddress, int port, String interfaceName, int timeToLive) {
+        try {
+            this.group = new InetSocketAddress(InetAddress.getByName(groupAddress), port);
+            this.networkInterface = interfaceName == null || interfaceName.isBlank()
+                    ? null : NetworkInterface.getByName(interfaceName);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot resolve multicast settings", e);
+        }
+        if (networkInterface == null) {
+            throw new IllegalStateException("app.invalidation.multicast.network-interface must name an existing interface"
+                    + " when app.invalidation.transport is multicast: " + interfaceName);
+        }
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public void start(Consumer<ByteBuffer> receiver) {
+        try {
+            channel = DatagramChannel.open(StandardProtocolFamily.INET)
+                    .setOption(StandardSocketOptions.SO_REUSEADDR, true)
+                    .bind(new InetSocketAddress(group.getPort()))
+                    .setOption(StandardSocketOptions.IP_MULTICAST_IF, networkInterface)
+                    .setOption(StandardSocketOptions.IP_MULTICAST_TTL, timeToLive)
+                    .setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true);
+            membership = channel.join(group.getAddress(), networkInterface);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot join multicast group " + group, e);
+        }
+        receiverThread = new Thread(() -> receive(receiver), "invalidation-multicast-receiver");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+    }
+
+    @Override
+    public void send(ByteBuffer message) {
+        try {
+            channel.send(message, group);
+        } catch (IOException e) {
+            // 보내지 못한 메시지는 수신 측이 다음 순번/하트비트에서 유실로 감지한다
+            log.warn("Failed to send invalidation message: {}", e.toString());
+        }
+    }
+
+    @Override
+    public int maxMessageSize() {
+        return MAX_MESSAGE_SIZE;
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (membership != null) {
+                membership.drop();
+            }
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            log.debug("Error closing multicast channel: {}", e.toString());
+        }
+    }
+
+    private void receive(Consumer<ByteBuffer> receiver) {
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_MESSAGE_SIZE);
+        while (channel.isOpen()) {
+            try {
+                buffer.clear();
+                channel.receive(buffer);
+                buffer.flip();
+                receiver.accept(buffer);
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to receive invalidation message: {}", e.toString());
+            }
+        }
+    }
+}
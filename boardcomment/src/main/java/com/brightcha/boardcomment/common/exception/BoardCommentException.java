@@ -15,6 +15,14 @@ public class BoardCommentException extends RuntimeException {
         this.message = null;
     }
 
+    /**
+     * 비즈니스 예외는 예상된 흐름(없는 id 조회 등)이므로 스택 트레이스를 만들지 않는다.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
     @Override
     public String getMessage() {
         if (message == null) {
@@ -11,8 +11,20 @@ public enum ErrorCode {
     DUPLICATED_USER_EMAIL(HttpStatus.CONFLICT, "User email is duplicated"),
     DUPLICATED_USER_NICKNAME(HttpStatus.CONFLICT, "User nickname is duplicated"),
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "User not founded"),
+    BOARD_NOT_FOUND(HttpStatus.NOT_FOUND, "Board not found"),
+    COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "Comment not found"),
     INVALID_PASSWORD(HttpStatus.UNAUTHORIZED, "Password is invalid"),
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "Token is invalid"),
+    COMMENT_DEPTH_EXCEEDED(HttpStatus.BAD_REQUEST, "Comment thread is too deep"),
+    INVALID_IF_MATCH(HttpStatus.BAD_REQUEST, "If-Match header is invalid"),
+    INVALID_FIELD_SELECTION(HttpStatus.BAD_REQUEST, "Requested field is not selectable"),
+    BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "Too many ids requested at once"),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key header is invalid"),
+    IDEMPOTENCY_KEY_IN_PROGRESS(HttpStatus.CONFLICT, "Request with this Idempotency-Key is still in progress"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key was used with a different request"),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "Resource was modified concurrently"),
+    VERSION_MISMATCH(HttpStatus.PRECONDITION_FAILED, "Resource version does not match If-Match"),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "Too many write requests"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server error");
 
     private final HttpStatus status;
@@ -0,0 +1,54 @@
+package com.brightcha.boardcomment.common.exception;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(에러 코드, 예외 타입)별로 구간당 로그 개수를 제한한다.
+ * 제한을 넘긴 로그는 버리고, 다음 구간의 첫 로그에서 버려진 개수를 함께 알려준다.
+ */
+class ErrorLogThrottle {
+
+    static final long SUPPRESSED = -1L;
+
+    private final int permitsPerWindow;
+    private final long windowNanos;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    ErrorLogThrottle(int permitsPerWindow, Duration window) {
+        this.permitsPerWindow = permitsPerWindow;
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * @return 로그를 남겨도 되면 직전 구간에서 버려진 로그 수(0 이상), 버려야 하면 {@link #SUPPRESSED}
+     */
+    long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    long tryAcquire(String key, long now) {
+        Window window = windows.computeIfAbsent(key, k -> new Window(now));
+        long start = window.start.get();
+        if (now - start >= windowNanos && window.start.compareAndSet(start, now)) {
+            window.count.set(0);
+        }
+        if (window.count.incrementAndGet() > permitsPerWindow) {
+            window.suppressed.incrementAndGet();
+            return SUPPRESSED;
+        }
+        return window.suppressed.getAndSet(0);
+    }
+
+    private static final class Window {
+        private final AtomicLong start;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Window(long start) {
+            this.start = new AtomicLong(start);
+        }
+    }
+}
@@ -1,27 +1,51 @@
 package com.brightcha.boardcomment.common.exception;
 
 import com.brightcha.boardcomment.common.response.Response;
+import jakarta.persistence.OptimisticLockException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
+
 @RestControllerAdvice
 @Slf4j
 public class GlobalControllerAdvice {
 
+    private final ErrorLogThrottle errorLogThrottle = new ErrorLogThrottle(10, Duration.ofSeconds(1));
+
     @ExceptionHandler(BoardCommentException.class)
     public ResponseEntity<?> boardCommentException(final BoardCommentException e) {
-        log.error("Error occur {}", e.toString());
+        if (e.getErrorCode().getStatus().is5xxServerError()) {
+            long suppressed = errorLogThrottle.tryAcquire(e.getErrorCode().name());
+            if (suppressed != ErrorLogThrottle.SUPPRESSED) {
+                log.error("Error occur {} (suppressed {})", e.toString(), suppressed);
+            }
+        } else {
+            // 없는 id 조회 같은 클라이언트 오류는 예상된 흐름이므로 debug 로 남긴다
+            log.debug("Client error {}", e.toString());
+        }
         return ResponseEntity.status(e.getErrorCode().getStatus())
                 .body(Response.error(e.getErrorCode().name()));
 
     }
 
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<?> optimisticLockException(final RuntimeException e) {
+        log.warn("Concurrent modification {}", e.toString());
+        return ResponseEntity.status(ErrorCode.CONCURRENT_MODIFICATION.getStatus())
+                .body(Response.error(ErrorCode.CONCURRENT_MODIFICATION.name()));
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<?> runtimeException(final RuntimeException e) {
-        log.error("Error occur {}", e.toString());
+        long suppressed = errorLogThrottle.tryAcquire(e.getClass().getName());
+        if (suppressed != ErrorLogThrottle.SUPPRESSED) {
+            log.error("Error occur (suppressed {})", suppressed, e);
+        }
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Response.error(ErrorCode.INTERNAL_SERVER_ERROR.name()));
     }
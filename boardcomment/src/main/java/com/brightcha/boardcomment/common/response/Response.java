@@ -1,9 +1,12 @@
 package com.brightcha.boardcomment.common.response;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE) // JSON/CBOR/Smile 역직렬화용
 @Getter
 public class Response<T> {
     private String resultCode;
@@ -0,0 +1,42 @@
+package com.brightcha.boardcomment.common.web;
+
+import com.brightcha.boardcomment.common.exception.BoardCommentException;
+import com.brightcha.boardcomment.common.exception.ErrorCode;
+
+/**
+ * 엔티티 버전(@Version)을 ETag / If-Match 헤더 값으로 변환한다.
+ */
+public final class ETags {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+
+    private ETags() {
+    }
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * If-Match 헤더를 기대 버전으로 변환한다. 헤더가 없거나 "*" 이면 버전 검사를 하지 않도록 null을 반환한다.
+     * If-Match는 강한 비교(RFC 9110 13.1.1)를 하므로 약한 태그(W/"...")는 어떤 버전과도 일치하지 않아 412가 된다.
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith(WEAK_PREFIX)) {
+            throw new BoardCommentException(ErrorCode.VERSION_MISMATCH, "weak entity tag never matches If-Match");
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new BoardCommentException(ErrorCode.INVALID_IF_MATCH, ifMatch);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.brightcha.boardcomment.common.web;
+
+import com.brightcha.boardcomment.common.exception.BoardCommentException;
+import com.brightcha.boardcomment.common.exception.ErrorCode;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 쉼표로 구분한 fields 쿼리 파라미터 해석.
+ */
+public final class FieldSelection {
+
+    private FieldSelection() {
+    }
+
+    /**
+     * 요청한 필드 집합을 반환한다. 파라미터가 없으면 전체 필드를 뜻하는 null을 반환하고, 모르는 필드가 있으면 400으로 거절한다.
+     */
+    public static Set<String> parse(String fields, Collection<String> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new BoardCommentException(ErrorCode.INVALID_FIELD_SELECTION, name);
+            }
+            selected.add(name);
+        }
+        return selected.isEmpty() ? null : selected;
+    }
+}
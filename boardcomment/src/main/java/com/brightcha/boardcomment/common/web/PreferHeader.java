@@ -0,0 +1,26 @@
+package com.brightcha.boardcomment.common.web;
+
+/**
+ * RFC 7240 Prefer 헤더 해석.
+ */
+public final class PreferHeader {
+
+    public static final String NAME = "Prefer";
+    public static final String APPLIED = "Preference-Applied";
+    public static final String RETURN_MINIMAL = "return=minimal";
+
+    private PreferHeader() {
+    }
+
+    public static boolean isReturnMinimal(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            if (RETURN_MINIMAL.equalsIgnoreCase(preference.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
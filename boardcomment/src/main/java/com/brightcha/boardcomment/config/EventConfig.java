@@ -0,0 +1,12 @@
+package com.brightcha.boardcomment.config;
+
+import com.brightcha.boardcomment.event.DomainEventProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(DomainEventProperties.class)
+public class EventConfig {
+}
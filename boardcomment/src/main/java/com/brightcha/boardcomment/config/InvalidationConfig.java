@@ -0,0 +1,38 @@
+package com.brightcha.boardcomment.config;
+
+import com.brightcha.boardcomment.cache.invalidation.InvalidationBus;
+import com.brightcha.boardcomment.cache.invalidation.InvalidationListener;
+import com.brightcha.boardcomment.cache.invalidation.InvalidationProperties;
+import com.brightcha.boardcomment.cache.invalidation.InvalidationTransport;
+import com.brightcha.boardcomment.cache.invalidation.LoopbackInvalidationTransport;
+import com.brightcha.boardcomment.cache.invalidation.MulticastInvalidationTransport;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(InvalidationProperties.class)
+public class InvalidationConfig {
+
+    @Bean
+    public InvalidationTransport invalidationTransport(InvalidationProperties properties) {
+        return switch (properties.transport()) {
+            // 피어가 없는 단일 인스턴스 배포
+            case LOOPBACK -> new LoopbackInvalidationTransport(new LoopbackInvalidationTransport.Network());
+            case MULTICAST -> {
+                InvalidationProperties.Multicast multicast = properties.multicast();
+                yield new MulticastInvalidationTransport(multicast.group(), multicast.port(),
+                        multicast.networkInterface(), multicast.timeToLive());
+            }
+        };
+    }
+
+    @Bean
+    public InvalidationBus invalidationBus(InvalidationTransport invalidationTransport,
+                                           List<InvalidationListener> listeners,
+                                           InvalidationProperties properties) {
+        return new InvalidationBus(invalidationTransport, listeners, properties);
+    }
+}
@@ -0,0 +1,10 @@
+package com.brightcha.boardcomment.config;
+
+import com.brightcha.boardcomment.ranking.TrendingProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TrendingProperties.class)
+public class RankingConfig {
+}
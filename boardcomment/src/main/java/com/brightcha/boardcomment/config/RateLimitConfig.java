@@ -0,0 +1,26 @@
+package com.brightcha.boardcomment.config;
+
+import com.brightcha.boardcomment.idempotency.IdempotencyStore;
+import com.brightcha.boardcomment.ratelimit.WriteAdmission;
+import com.brightcha.boardcomment.ratelimit.WriteAdmissionInterceptor;
+import com.brightcha.boardcomment.ratelimit.WriteLimitProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(WriteLimitProperties.class)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final WriteAdmission writeAdmission;
+    private final IdempotencyStore idempotencyStore;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new WriteAdmissionInterceptor(writeAdmission, idempotencyStore))
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,10 @@
+package com.brightcha.boardcomment.config;
+
+import com.brightcha.boardcomment.stream.CommentStreamProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CommentStreamProperties.class)
+public class StreamConfig {
+}
@@ -0,0 +1,30 @@
+package com.brightcha.boardcomment.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 내부 서비스 간 호출용 바이너리 응답 형식.
+ * <p>
+ * Accept: application/cbor 또는 application/x-jackson-smile 요청에는 같은 DTO를 바이너리로 인코딩해 응답한다.
+ * JSON과 동일한 spring.jackson.* 설정과 모듈을 쓰도록 Boot가 구성한 Jackson2ObjectMapperBuilder로 매퍼를 만든다.
+ * (HttpMessageConverter 빈은 같은 타입의 기본 컨버터를 대체한다)
+ */
+@Configuration
+public class WireFormatConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,42 @@
+package com.brightcha.boardcomment.config.datasource;
+
+/**
+ * 현재 요청이 복제본(replica)으로 보내도 되는 읽기 요청인지, 최근 쓰기 때문에 primary에 고정되어야 하는지를
+ * 스레드 단위로 보관한다.
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> READ_REQUEST = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    public static void markReadRequest() {
+        READ_REQUEST.set(Boolean.TRUE);
+    }
+
+    public static boolean isReadRequest() {
+        return Boolean.TRUE.equals(READ_REQUEST.get());
+    }
+
+    public static void pinPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    /**
+     * 지금 커넥션을 얻으면 replica로 라우팅되는지. replica가 하나도 없으면 라우팅 DataSource가 primary를 쓴다.
+     */
+    public static boolean routesToReplica(boolean readOnlyTransaction) {
+        return !isPrimaryPinned() && (readOnlyTransaction || isReadRequest());
+    }
+
+    public static void clear() {
+        READ_REQUEST.remove();
+        PRIMARY_PINNED.remove();
+    }
+}
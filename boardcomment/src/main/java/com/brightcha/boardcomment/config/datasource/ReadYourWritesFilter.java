@@ -0,0 +1,84 @@
+package com.brightcha.boardcomment.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * GET/HEAD 요청은 replica로 보내되, 쓰기 직후 일정 시간 동안은 같은 클라이언트의 읽기를 primary에 고정한다.
+ * 고정 만료 시각을 쿠키에 담아 두므로 어느 인스턴스가 요청을 받아도 동일하게 동작한다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String PIN_COOKIE = "rw-primary-until";
+
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    ReadYourWritesFilter(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = clock.millis();
+        try {
+            if (isSafeMethod(request.getMethod())) {
+                DataSourceRoutingContext.markReadRequest();
+                if (pinnedUntil(request) > now) {
+                    DataSourceRoutingContext.pinPrimary();
+                }
+            } else {
+                DataSourceRoutingContext.pinPrimary();
+                response.addCookie(pinCookie(request, now + window.toMillis()));
+            }
+            filterChain.doFilter(request, response);
+        } finally {
+            DataSourceRoutingContext.clear();
+        }
+    }
+
+    private boolean isSafeMethod(String method) {
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+
+    private long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0L;
+        }
+        for (Cookie cookie : cookies) {
+            if (PIN_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+
+    private Cookie pinCookie(HttpServletRequest request, long until) {
+        Cookie cookie = new Cookie(PIN_COOKIE, Long.toString(until));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setSecure(request.isSecure());
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+        return cookie;
+    }
+}
@@ -0,0 +1,26 @@
+package com.brightcha.boardcomment.config.datasource;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * replica로 라우팅되는 트랜잭션은 2차 캐시를 읽기만 하고 채우지 않는다 ({@link CacheMode#GET}, 쿼리 캐시 포함).
+ * 다른 인스턴스의 무효화로 비워진 영역에 아직 복제되지 않은 이전 행을 넣으면 ehcache.xml의 TTL 동안 오래된 값이 남기 때문이다.
+ * 캐시는 primary에서 읽은 행으로만 채워지고, replica 읽기는 캐시 적중 시에만 이득을 본다.
+ */
+public class ReplicaAwareJpaTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        if (DataSourceRoutingContext.routesToReplica(definition.isReadOnly())) {
+            EntityManagerHolder holder =
+                    (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+            holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+    }
+}
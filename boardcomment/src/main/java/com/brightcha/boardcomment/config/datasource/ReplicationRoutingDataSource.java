@@ -0,0 +1,46 @@
+package com.brightcha.boardcomment.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * 읽기 전용 트랜잭션과 GET 요청은 replica 풀에 round-robin으로, 나머지는 primary로 보낸다.
+ * 커넥션을 얻는 시점에 트랜잭션 속성이 정해져 있어야 하므로 {@code LazyConnectionDataSourceProxy}로 감싸서 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    private static final String REPLICA_PREFIX = "replica-";
+
+    private final List<String> replicaKeys;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicaKeys = IntStream.range(0, replicas.size())
+                .mapToObj(i -> REPLICA_PREFIX + i)
+                .toList();
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(replicaKeys.get(i), replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaKeys.isEmpty()
+                || !DataSourceRoutingContext.routesToReplica(TransactionSynchronizationManager.isCurrentTransactionReadOnly())) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(counter.getAndIncrement(), replicaKeys.size()));
+    }
+}
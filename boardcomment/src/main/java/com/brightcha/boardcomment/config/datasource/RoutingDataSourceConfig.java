@@ -0,0 +1,73 @@
+package com.brightcha.boardcomment.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * app.datasource.routing.enabled=true 일 때 primary/replica 라우팅 DataSource를 구성한다.
+ * 비활성화 상태에서는 spring.datasource 기반의 기본 단일 DataSource가 그대로 사용된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class RoutingDataSourceConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(RoutingDataSourceProperties properties) {
+        DataSource primary = createPool("primary", properties.primary());
+        List<DataSource> replicas = IntStream.range(0, properties.replicas().size())
+                .mapToObj(i -> createPool("replica-" + i, properties.replicas().get(i)))
+                .toList();
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(primary, replicas);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * 기본 JpaTransactionManager를 대신한다. replica에서 읽은 행을 2차 캐시에 넣지 않는다.
+     */
+    @Bean
+    public JpaTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        JpaTransactionManager transactionManager = new ReplicaAwareJpaTransactionManager();
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(RoutingDataSourceProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(properties.routing().readYourWritesWindow()));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private DataSource createPool(String name, RoutingDataSourceProperties.Node node) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(node.driverClassName())
+                .url(node.url())
+                .username(node.username())
+                .password(node.password())
+                .build();
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(node.maximumPoolSize());
+        return dataSource;
+    }
+}
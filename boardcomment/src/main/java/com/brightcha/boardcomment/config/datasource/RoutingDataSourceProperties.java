@@ -0,0 +1,29 @@
+package com.brightcha.boardcomment.config.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.datasource")
+public record RoutingDataSourceProperties(
+        Routing routing,
+        Node primary,
+        @DefaultValue List<Node> replicas
+) {
+    public record Routing(
+            boolean enabled,
+            @DefaultValue("3s") Duration readYourWritesWindow
+    ) {
+    }
+
+    public record Node(
+            String url,
+            String username,
+            String password,
+            String driverClassName,
+            @DefaultValue("10") int maximumPoolSize
+    ) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.brightcha.boardcomment.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.List;
+
+/**
+ * 실행 시간이 임계값을 넘은 SQL만 바인드 파라미터와 함께 WARN으로 남긴다.
+ * 모든 SQL을 출력하던 show_sql 대신 쓰며, 빠른 쿼리에는 경과 시간 비교 외의 비용이 없다.
+ */
+@Slf4j
+class SlowQueryListener implements QueryExecutionListener {
+
+    private final long thresholdMillis;
+    private final int maxParameterLength;
+
+    SlowQueryListener(long thresholdMillis, int maxParameterLength) {
+        this.thresholdMillis = thresholdMillis;
+        this.maxParameterLength = maxParameterLength;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < thresholdMillis || !log.isWarnEnabled()) {
+            return;
+        }
+        log.warn("Slow query {}ms success={} batchSize={} {}",
+                execInfo.getElapsedTime(), execInfo.isSuccess(), execInfo.getBatchSize(), describe(queryInfoList));
+    }
+
+    String describe(List<QueryInfo> queryInfoList) {
+        StringBuilder builder = new StringBuilder();
+        for (QueryInfo queryInfo : queryInfoList) {
+            builder.append("query=[").append(queryInfo.getQuery()).append(']');
+            for (List<ParameterSetOperation> parameters : queryInfo.getParametersList()) {
+                builder.append(" params=[");
+                for (int i = 0; i < parameters.size(); i++) {
+                    Object[] args = parameters.get(i).getArgs();
+                    if (i > 0) {
+                        builder.append(", ");
+                    }
+                    builder.append(abbreviate(args.length > 1 ? args[1] : null));
+                }
+                builder.append(']');
+            }
+        }
+        return builder.toString();
+    }
+
+    private String abbreviate(Object value) {
+        String text = String.valueOf(value);
+        return text.length() <= maxParameterLength ? text : text.substring(0, maxParameterLength) + "...";
+    }
+}
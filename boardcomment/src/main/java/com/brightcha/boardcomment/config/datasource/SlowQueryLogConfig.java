@@ -0,0 +1,39 @@
+package com.brightcha.boardcomment.config.datasource;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource를 datasource-proxy로 감싸 느린 쿼리를 기록한다.
+ * 라우팅 DataSource를 쓰는 경우에도 최상위 DataSource 빈 하나만 감싸므로 primary/replica 모두에 적용된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SlowQueryLogProperties.class)
+public class SlowQueryLogConfig {
+
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLogProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                SlowQueryLogProperties slowQuery = properties.getObject();
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new SlowQueryListener(slowQuery.threshold().toMillis(), slowQuery.maxParameterLength()))
+                        .build();
+            }
+        };
+    }
+}
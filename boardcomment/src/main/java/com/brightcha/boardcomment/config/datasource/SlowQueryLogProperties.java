@@ -0,0 +1,14 @@
+package com.brightcha.boardcomment.config.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.slow-query")
+public record SlowQueryLogProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200ms") Duration threshold,
+        @DefaultValue("200") int maxParameterLength
+) {
+}
@@ -0,0 +1,77 @@
+package com.brightcha.boardcomment.controller;
+
+import com.brightcha.boardcomment.common.exception.BoardCommentException;
+import com.brightcha.boardcomment.common.exception.ErrorCode;
+import com.brightcha.boardcomment.export.ExportProperties;
+import com.brightcha.boardcomment.export.NdjsonExporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@Slf4j
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Tag(name = "AdminExportController", description = "관리자용 데이터 내보내기 API를 제공합니다.")
+public class AdminExportController {
+
+    static final String TOKEN_HEADER = "X-Export-Token";
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final NdjsonExporter ndjsonExporter;
+    private final ExportProperties exportProperties;
+
+    @GetMapping("/export")
+    @Operation(summary = "전체 데이터 내보내기", description = "삭제되지 않은 모든 게시글과 댓글을 NDJSON으로 스트리밍하는 API. gzip=true면 gzip 파일로 내려줌")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기를 시작함."),
+            @ApiResponse(responseCode = "401", description = "내보내기 토큰이 없거나 잘못됨."),
+            @ApiResponse(responseCode = "500", description = "서버 에러 발생.")
+    })
+    public ResponseEntity<StreamingResponseBody> export(@RequestHeader(value = TOKEN_HEADER, required = false) String token,
+                                                        @RequestParam(defaultValue = "false") boolean gzip) {
+        checkToken(token);
+        String filename = "boardcomment-" + LocalDate.now() + (gzip ? ".ndjson.gz" : ".ndjson");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                ndjsonExporter.export(gzipOut);
+                gzipOut.finish();
+            } else {
+                ndjsonExporter.export(out);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    private void checkToken(String token) {
+        String expected = exportProperties.token();
+        // 토큰이 설정되지 않았으면 내보내기를 막는다
+        if (expected == null || expected.isBlank() || token == null
+                || !MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            throw new BoardCommentException(ErrorCode.INVALID_TOKEN);
+        }
+    }
+}
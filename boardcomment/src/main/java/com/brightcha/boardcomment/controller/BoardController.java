@@ -1,8 +1,18 @@
 package com.brightcha.boardcomment.controller;
 
 import com.brightcha.boardcomment.common.response.Response;
+import com.brightcha.boardcomment.common.web.ETags;
+import com.brightcha.boardcomment.common.web.FieldSelection;
+import com.brightcha.boardcomment.common.web.PreferHeader;
+import com.brightcha.boardcomment.dto.BatchLookupResponseDto;
+import com.brightcha.boardcomment.dto.BoardFeedResponseDto;
 import com.brightcha.boardcomment.dto.BoardRequestDto;
 import com.brightcha.boardcomment.dto.BoardResponseDto;
+import com.brightcha.boardcomment.dto.BoardSummaryResponseDto;
+import com.brightcha.boardcomment.dto.TrendingBoardResponseDto;
+import com.brightcha.boardcomment.idempotency.IdempotencyStore;
+import com.brightcha.boardcomment.ranking.TrendingBoardRanking;
+import com.brightcha.boardcomment.ratelimit.WriteAdmission;
 import com.brightcha.boardcomment.service.BoardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,9 +20,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @Slf4j
@@ -22,6 +35,9 @@ import java.util.List;
 public class BoardController {
 
     private final BoardService boardService;
+    private final WriteAdmission writeAdmission;
+    private final IdempotencyStore idempotencyStore;
+    private final TrendingBoardRanking trendingBoardRanking;
 
     @GetMapping("/boards")
     @Operation(summary = "게시글 전체 조회", description = "모든 게시글을 조회하는 API")
@@ -33,6 +49,51 @@ public class BoardController {
         return Response.success(boardService.getBoards());
     }
 
+    @GetMapping(value = "/boards", params = "view=summary")
+    @Operation(summary = "게시글 요약 목록 조회", description = "본문 대신 미리보기만 담은 게시글 목록을 조회하는 API. fields로 응답 필드를 고를 수 있음 (예: fields=id,title)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 게시글 요약 목록을 조회함."),
+            @ApiResponse(responseCode = "400", description = "선택할 수 없는 필드를 요청함."),
+            @ApiResponse(responseCode = "500", description = "서버 에러 발생.")
+    })
+    public Response<List<BoardSummaryResponseDto>> getBoardSummaries(@RequestParam(required = false) String fields) {
+        Set<String> selected = FieldSelection.parse(fields, BoardSummaryResponseDto.FIELDS);
+        return Response.success(boardService.getBoardSummaries(selected));
+    }
+
+    @GetMapping("/boards/batch")
+    @Operation(summary = "게시글 일괄 조회", description = "여러 boardId(최대 100개)를 한 번에 조회하는 API. 요청 순서대로 반환하며 없는 id는 found=false로 표시")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 게시글을 일괄 조회함."),
+            @ApiResponse(responseCode = "400", description = "요청한 id가 너무 많음."),
+            @ApiResponse(responseCode = "500", description = "서버 에러 발생.")
+    })
+    public Response<BatchLookupResponseDto<BoardResponseDto>> getBoardsByIds(@RequestParam List<Long> ids) {
+        return Response.success(boardService.getBoardsByIds(ids));
+    }
+
+    @GetMapping("/boards/trending")
+    @Operation(summary = "인기 게시글 조회", description = "최근 댓글/조회가 많은 게시글 id를 시간 감쇠 점수 순으로 조회하는 API (수 초 단위로 갱신)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 인기 게시글을 조회함."),
+            @ApiResponse(responseCode = "500", description = "서버 에러 발생.")
+    })
+    public Response<List<TrendingBoardResponseDto>> getTrendingBoards(@RequestParam(defaultValue = "20") int limit) {
+        return Response.success(trendingBoardRanking.top(limit));
+    }
+
+    @GetMapping("/boards/feed")
+    @Operation(summary = "게시글 피드 조회", description = "최신 게시글 페이지를 댓글 수, 최신 댓글(comments개)과 함께 한 번에 조회하는 API")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 게시글 피드를 조회함."),
+            @ApiResponse(responseCode = "500", description = "서버 에러 발생.")
+    })
+    public Response<BoardFeedResponseDto> getFeed(@RequestParam(defaultValue = "0") int page,
+                                                  @RequestParam(defaultValue = "20") int size,
+                                                  @RequestParam(defaultValue = "3") int comments) {
+        return Response.success(boardService.getFeed(page, size, comments));
+    }
+
     @GetMapping("/boards/{boardId}")
     @Operation(summary = "특정 게시글 조회", description = "boardId에 해당하는 게시글을 조회하는 API")
     @ApiResponses(value = {
@@ -40,31 +101,58 @@ public class BoardController {
             @ApiResponse(responseCode = "404", description = "해당 게시글을 찾을 수 없음."),
             @ApiResponse(responseCode = "500", description = "서버 에러 발생.")
     })
-    public Response<BoardResponseDto> getBoard(@PathVariable Long boardId) {
-        return Response.success(boardService.getBoard(boardId));
+    public ResponseEntity<Response<BoardResponseDto>> getBoard(@PathVariable Long boardId) {
+        BoardResponseDto board = boardService.getBoard(boardId);
+        trendingBoardRanking.recordView(boardId);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(board.version()))
+                .body(Response.success(board));
     }
 
     @PostMapping("/boards")
-    @Operation(summary = "게시글 생성", description = "새로운 게시글을 생성하는 API")
+    @Operation(summary = "게시글 생성", description = "새로운 게시글을 생성하는 API. Idempotency-Key 헤더가 있으면 같은 키의 재시도에 최초 결과를 돌려줌")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공적으로 게시글을 생성함."),
             @ApiResponse(responseCode = "400", description = "입력값이 잘못되었음."),
+            @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 요청이 아직 처리 중임."),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key가 다른 요청에 사용되었음."),
+            @ApiResponse(responseCode = "429", description = "요청이 너무 많아 거절함."),
             @ApiResponse(responseCode = "500", description = "서버 에러 발생.")
     })
-    public Response<BoardResponseDto> createBoard(@RequestBody BoardRequestDto boardRequestDto) {
-        return Response.success(boardService.createBoard(boardRequestDto));
+    public Response<BoardResponseDto> createBoard(@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                                  @RequestBody BoardRequestDto boardRequestDto) {
+        // 사용자별 제한은 최초 실행에만 적용하고 같은 키 재시도에는 저장된 응답을 돌려준다
+        return Response.success(idempotencyStore.execute("POST /api/boards", idempotencyKey, boardRequestDto, () -> {
+            writeAdmission.checkUser(boardRequestDto.username());
+            return boardService.createBoard(boardRequestDto);
+        }));
     }
 
     @PutMapping("/boards/{boardId}")
     @Operation(summary = "게시글 수정", description = "boardId에 해당하는 게시글을 수정하는 API")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공적으로 게시글을 수정함."),
+            @ApiResponse(responseCode = "204", description = "Prefer: return=minimal 요청 시 본문 없이 수정함."),
             @ApiResponse(responseCode = "404", description = "해당 게시글을 찾을 수 없음."),
             @ApiResponse(responseCode = "400", description = "입력값이 잘못되었음."),
+            @ApiResponse(responseCode = "409", description = "동시에 다른 수정이 반영되어 충돌함."),
+            @ApiResponse(responseCode = "412", description = "If-Match 버전이 현재 버전과 다름."),
             @ApiResponse(responseCode = "500", description = "서버 에러 발생.")
     })
-    public Response<BoardResponseDto> updateBoard(@PathVariable Long boardId, @RequestBody BoardRequestDto boardRequestDto) {
-        return Response.success(boardService.updateBoard(boardId, boardRequestDto));
+    public ResponseEntity<Response<BoardResponseDto>> updateBoard(@PathVariable Long boardId,
+                                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                  @RequestHeader(value = PreferHeader.NAME, required = false) String prefer,
+                                                                  @RequestBody BoardRequestDto boardRequestDto) {
+        if (PreferHeader.isReturnMinimal(prefer)) {
+            boardService.updateBoardInPlace(boardId, boardRequestDto, ETags.parseIfMatch(ifMatch));
+            return ResponseEntity.noContent()
+                    .header(PreferHeader.APPLIED, PreferHeader.RETURN_MINIMAL)
+                    .build();
+        }
+        BoardResponseDto board = boardService.updateBoard(boardId, boardRequestDto, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(board.version()))
+                .body(Response.success(board));
     }
 
     @DeleteMapping("/boards/{boardId}")
@@ -1,17 +1,28 @@
 package com.brightcha.boardcomment.controller;
 
+import com.brightcha.boardcomment.common.web.ETags;
+import com.brightcha.boardcomment.common.web.PreferHeader;
+import com.brightcha.boardcomment.dto.BatchLookupResponseDto;
 import com.brightcha.boardcomment.dto.CommentRequestDto;
 import com.brightcha.boardcomment.dto.CommentResponseDto;
+import com.brightcha.boardcomment.dto.CommentThreadResponseDto;
 import com.brightcha.boardcomment.dto.CommentUpdateRequestDto;
+import com.brightcha.boardcomment.dto.RootCommentSliceResponseDto;
+import com.brightcha.boardcomment.idempotency.IdempotencyStore;
+import com.brightcha.boardcomment.ratelimit.WriteAdmission;
 import com.brightcha.boardcomment.service.CommentService;
+import com.brightcha.boardcomment.stream.CommentStreamHub;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -23,6 +34,9 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamHub commentStreamHub;
+    private final WriteAdmission writeAdmission;
+    private final IdempotencyStore idempotencyStore;
 
     @GetMapping("/boards/{boardId}/comments")
     @Operation(summary = "댓글 목록 조회", description = "특정 게시글(boardId)에 대한 모든 댓글을 조회하는 API")
@@ -35,28 +49,120 @@ public class CommentController {
         return ResponseEntity.ok(commentService.getComments(boardId));
     }
 
+    @GetMapping(value = "/boards/{boardId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "댓글 변경 구독", description = "특정 게시글(boardId)의 댓글 생성/수정/삭제를 Server-Sent Events로 전달하는 API. Last-Event-ID로 재연결 시 놓친 이벤트를 이어서 받음")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "구독을 시작함."),
+            @ApiResponse(responseCode = "404", description = "해당 게시글을 찾을 수 없음."),
+            @ApiResponse(responseCode = "500", description = "서버 에러 발생.")
+    })
+    public SseEmitter streamComments(@PathVariable Long boardId,
+                                     @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        commentService.validateBoardExists(boardId);
+        return commentStreamHub.subscribe(boardId, lastEventId);
+    }
+
+    @GetMapping("/boards/{boardId}/comments/roots")
+    @Operation(summary = "최상위 댓글 목록 조회", description = "특정 게시글(boardId)의 최상위 댓글을 페이지 단위로 답글 수와 함께 조회하는 API")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 최상위 댓글 목록을 조회함."),
+            @ApiResponse(responseCode = "404", description = "해당 게시글을 찾을 수 없음."),
+            @ApiResponse(responseCode = "500", description = "서버 에러 발생.")
+    })
+    public ResponseEntity<RootCommentSliceResponseDto> getRootComments(@PathVariable Long boardId,
+                                                                       @RequestParam(defaultValue = "0") int page,
+                                                                       @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getRootComments(boardId, page, size));
+    }
+
+    @GetMapping("/comments/batch")
+    @Operation(summary = "댓글 일괄 조회", description = "여러 commentId(최대 100개)를 한 번에 조회하는 API. 요청 순서대로 반환하며 없는 id는 found=false로 표시")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 댓글을 일괄 조회함."),
+            @ApiResponse(responseCode = "400", description = "요청한 id가 너무 많음."),
+            @ApiResponse(responseCode = "500", description = "서버 에러 발생.")
+    })
+    public ResponseEntity<BatchLookupResponseDto<CommentResponseDto>> getCommentsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(commentService.getCommentsByIds(ids));
+    }
+
+    @GetMapping("/comments/{commentId}/thread")
+    @Operation(summary = "댓글 스레드 조회", description = "특정 댓글(commentId)과 모든 하위 답글을 트리 형태로 조회하는 API")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 댓글 스레드를 조회함."),
+            @ApiResponse(responseCode = "404", description = "해당 댓글을 찾을 수 없음."),
+            @ApiResponse(responseCode = "500", description = "서버 에러 발생.")
+    })
+    public ResponseEntity<CommentThreadResponseDto> getThread(@PathVariable Long commentId) {
+        return ResponseEntity.ok(commentService.getThread(commentId));
+    }
+
     @PostMapping("/boards/{boardId}/comments")
-    @Operation(summary = "댓글 생성", description = "특정 게시글(boardId)에 새로운 댓글을 생성하는 API")
+    @Operation(summary = "댓글 생성", description = "특정 게시글(boardId)에 새로운 댓글을 생성하는 API. Idempotency-Key 헤더가 있으면 같은 키의 재시도에 최초 결과를 돌려줌")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공적으로 댓글을 생성함."),
             @ApiResponse(responseCode = "400", description = "입력값이 잘못되었음."),
             @ApiResponse(responseCode = "404", description = "해당 게시글을 찾을 수 없음."),
+            @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 요청이 아직 처리 중임."),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key가 다른 요청에 사용되었음."),
+            @ApiResponse(responseCode = "429", description = "요청이 너무 많아 거절함."),
+            @ApiResponse(responseCode = "500", description = "서버 에러 발생.")
+    })
+    public ResponseEntity<CommentResponseDto> createComment(@PathVariable Long boardId,
+                                                            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                                            @RequestBody CommentRequestDto commentDto) {
+        // 사용자별 제한은 최초 실행에만 적용하고 같은 키 재시도에는 저장된 응답을 돌려준다
+        return ResponseEntity.ok(idempotencyStore.execute("POST /api/boards/" + boardId + "/comments", idempotencyKey, commentDto, () -> {
+            writeAdmission.checkUser(commentDto.username());
+            return commentService.createComment(boardId, commentDto);
+        }));
+    }
+
+    @PostMapping("/comments/{commentId}/replies")
+    @Operation(summary = "답글 생성", description = "특정 댓글(commentId)에 답글을 생성하는 API. Idempotency-Key 헤더가 있으면 같은 키의 재시도에 최초 결과를 돌려줌")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 답글을 생성함."),
+            @ApiResponse(responseCode = "400", description = "입력값이 잘못되었거나 스레드 깊이를 초과함."),
+            @ApiResponse(responseCode = "404", description = "해당 댓글을 찾을 수 없음."),
+            @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 요청이 아직 처리 중임."),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key가 다른 요청에 사용되었음."),
+            @ApiResponse(responseCode = "429", description = "요청이 너무 많아 거절함."),
             @ApiResponse(responseCode = "500", description = "서버 에러 발생.")
     })
-    public ResponseEntity<CommentResponseDto> createComment(@PathVariable Long boardId, @RequestBody CommentRequestDto commentDto) {
-        return ResponseEntity.ok(commentService.createComment(boardId, commentDto));
+    public ResponseEntity<CommentResponseDto> createReply(@PathVariable Long commentId,
+                                                          @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                                          @RequestBody CommentRequestDto commentDto) {
+        return ResponseEntity.ok(idempotencyStore.execute("POST /api/comments/" + commentId + "/replies", idempotencyKey, commentDto, () -> {
+            writeAdmission.checkUser(commentDto.username());
+            return commentService.createReply(commentId, commentDto);
+        }));
     }
 
     @PutMapping("/comments/{commentId}")
     @Operation(summary = "댓글 수정", description = "특정 댓글(commentId)을 수정하는 API")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공적으로 댓글을 수정함."),
+            @ApiResponse(responseCode = "204", description = "Prefer: return=minimal 요청 시 본문 없이 수정함."),
             @ApiResponse(responseCode = "404", description = "해당 댓글을 찾을 수 없음."),
             @ApiResponse(responseCode = "400", description = "입력값이 잘못되었음."),
+            @ApiResponse(responseCode = "409", description = "동시에 다른 수정이 반영되어 충돌함."),
+            @ApiResponse(responseCode = "412", description = "If-Match 버전이 현재 버전과 다름."),
             @ApiResponse(responseCode = "500", description = "서버 에러 발생.")
     })
-    public ResponseEntity<CommentResponseDto> updateComment(@PathVariable Long commentId, @RequestBody CommentUpdateRequestDto commentUpdateRequestDto) {
-        return ResponseEntity.ok(commentService.updateComment(commentId, commentUpdateRequestDto));
+    public ResponseEntity<CommentResponseDto> updateComment(@PathVariable Long commentId,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                            @RequestHeader(value = PreferHeader.NAME, required = false) String prefer,
+                                                            @RequestBody CommentUpdateRequestDto commentUpdateRequestDto) {
+        if (PreferHeader.isReturnMinimal(prefer)) {
+            commentService.updateCommentInPlace(commentId, commentUpdateRequestDto, ETags.parseIfMatch(ifMatch));
+            return ResponseEntity.noContent()
+                    .header(PreferHeader.APPLIED, PreferHeader.RETURN_MINIMAL)
+                    .build();
+        }
+        CommentResponseDto comment = commentService.updateComment(commentId, commentUpdateRequestDto, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(comment.version()))
+                .body(comment);
     }
 
     @DeleteMapping("/comments/{commentId}")
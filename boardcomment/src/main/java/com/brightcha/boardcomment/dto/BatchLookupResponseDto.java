@@ -0,0 +1,32 @@
+package com.brightcha.boardcomment.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청한 id 순서대로의 조회 결과. 없는 id는 found=false 항목과 missingIds로 알려준다.
+ */
+public record BatchLookupResponseDto<T>(
+        List<Entry<T>> results,
+        List<Long> missingIds
+) {
+    public static final int MAX_IDS = 100;
+
+    public static <T> BatchLookupResponseDto<T> of(List<Long> requestedIds, Map<Long, T> found) {
+        List<Entry<T>> results = requestedIds.stream()
+                .map(id -> new Entry<>(id, found.containsKey(id), found.get(id)))
+                .toList();
+        List<Long> missingIds = requestedIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .distinct()
+                .toList();
+        return new BatchLookupResponseDto<>(results, missingIds);
+    }
+
+    public record Entry<T>(
+            Long id,
+            boolean found,
+            T value
+    ) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.brightcha.boardcomment.dto;
+
+import java.util.List;
+
+public record BoardFeedItemResponseDto(
+        BoardSummaryResponseDto board,
+        long commentCount,
+        List<CommentResponseDto> latestComments
+) {
+}
@@ -0,0 +1,9 @@
+package com.brightcha.boardcomment.dto;
+
+import java.util.List;
+
+public record BoardFeedResponseDto(
+        List<BoardFeedItemResponseDto> boards,
+        boolean hasNext
+) {
+}
@@ -9,6 +9,7 @@ public record BoardResponseDto(
         String title,
         String content,
         String username,
+        Long version,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
@@ -18,6 +19,7 @@ public record BoardResponseDto(
                 board.getTitle(),
                 board.getContent(),
                 board.getUsername(),
+                board.getVersion(),
                 board.getCreatedAt(),
                 board.getUpdatedAt()
         );
@@ -0,0 +1,68 @@
+package com.brightcha.boardcomment.dto;
+
+import com.brightcha.boardcomment.repository.BoardRepository;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 목록 조회용 요약 뷰. 본문 대신 잘린 미리보기만 담고, 선택되지 않은 필드(null)는 직렬화하지 않는다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BoardSummaryResponseDto(
+        Long id,
+        String title,
+        String username,
+        String preview,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static final int PREVIEW_LENGTH = 100;
+    public static final List<String> FIELDS = List.of("id", "title", "username", "preview", "createdAt", "updatedAt");
+    private static final String ELLIPSIS = "…";
+
+    /**
+     * 조회 쿼리는 PREVIEW_LENGTH + 1 글자까지 읽어 와서 잘렸는지 판단한다.
+     */
+    public static BoardSummaryResponseDto from(BoardRepository.BoardSummary summary) {
+        return new BoardSummaryResponseDto(
+                summary.getId(),
+                summary.getTitle(),
+                summary.getUsername(),
+                truncate(summary.getPreview()),
+                summary.getCreatedAt(),
+                summary.getUpdatedAt()
+        );
+    }
+
+    /**
+     * 요청한 필드만 남긴다. fields가 null이면 전체 필드를 유지한다.
+     */
+    public BoardSummaryResponseDto select(Set<String> fields) {
+        if (fields == null) {
+            return this;
+        }
+        return new BoardSummaryResponseDto(
+                fields.contains("id") ? id : null,
+                fields.contains("title") ? title : null,
+                fields.contains("username") ? username : null,
+                fields.contains("preview") ? preview : null,
+                fields.contains("createdAt") ? createdAt : null,
+                fields.contains("updatedAt") ? updatedAt : null
+        );
+    }
+
+    static String truncate(String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        int end = PREVIEW_LENGTH;
+        // 서로게이트 쌍 중간에서 자르지 않는다
+        if (Character.isHighSurrogate(content.charAt(end - 1))) {
+            end--;
+        }
+        return content.substring(0, end) + ELLIPSIS;
+    }
+}
@@ -10,4 +10,8 @@ public record CommentRequestDto(
     public Comment toEntity(Board board) {
         return Comment.create(this.content, this.username, board);
     }
+
+    public Comment toReplyEntity(Comment parent) {
+        return Comment.createReply(this.content, this.username, parent);
+    }
 }
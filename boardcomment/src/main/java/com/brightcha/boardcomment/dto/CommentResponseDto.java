@@ -1,14 +1,18 @@
 package com.brightcha.boardcomment.dto;
 
 import com.brightcha.boardcomment.entity.Comment;
+import com.brightcha.boardcomment.repository.CommentRepository;
 
 import java.time.LocalDateTime;
 
 public record CommentResponseDto(
         Long id,
         Long boardId,
+        Long parentId,
+        int depth,
         String content,
         String username,
+        Long version,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
@@ -16,8 +20,25 @@ public record CommentResponseDto(
         return new CommentResponseDto(
                 comment.getId(),
                 comment.getBoard().getId(),
+                comment.getParentId(),
+                comment.getDepth(),
                 comment.getContent(),
                 comment.getUsername(),
+                comment.getVersion(),
+                comment.getCreatedAt(),
+                comment.getUpdatedAt()
+        );
+    }
+
+    public static CommentResponseDto from(CommentRepository.LatestComment comment) {
+        return new CommentResponseDto(
+                comment.getId(),
+                comment.getBoardId(),
+                comment.getParentId(),
+                comment.getDepth(),
+                comment.getContent(),
+                comment.getUsername(),
+                comment.getVersion(),
                 comment.getCreatedAt(),
                 comment.getUpdatedAt()
         );
@@ -0,0 +1,33 @@
+package com.brightcha.boardcomment.dto;
+
+import com.brightcha.boardcomment.entity.Comment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public record CommentThreadResponseDto(
+        Long id,
+        Long boardId,
+        Long parentId,
+        int depth,
+        String content,
+        String username,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        List<CommentThreadResponseDto> replies
+) {
+    public static CommentThreadResponseDto from(Comment comment) {
+        return new CommentThreadResponseDto(
+                comment.getId(),
+                comment.getBoard().getId(),
+                comment.getParentId(),
+                comment.getDepth(),
+                comment.getContent(),
+                comment.getUsername(),
+                comment.getCreatedAt(),
+                comment.getUpdatedAt(),
+                new ArrayList<>()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.brightcha.boardcomment.dto;
+
+import com.brightcha.boardcomment.entity.Comment;
+
+public record RootCommentResponseDto(
+        CommentResponseDto comment,
+        long replyCount
+) {
+    public static RootCommentResponseDto of(Comment comment, long replyCount) {
+        return new RootCommentResponseDto(CommentResponseDto.from(comment), replyCount);
+    }
+}
@@ -0,0 +1,9 @@
+package com.brightcha.boardcomment.dto;
+
+import java.util.List;
+
+public record RootCommentSliceResponseDto(
+        List<RootCommentResponseDto> comments,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,7 @@
+package com.brightcha.boardcomment.dto;
+
+public record TrendingBoardResponseDto(
+        Long boardId,
+        double score
+) {
+}
@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -11,11 +15,22 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_board_parent", columnList = "board_id, parent_id"),
+        @Index(name = "idx_comments_root_path", columnList = "root_id, path")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE comments SET deleted_at = NOW() WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Comment {
+    public static final int MAX_DEPTH = 32;
+    // base36로 인코딩한 id 8자리 + 구분자 → 경로 문자열 정렬이 곧 트리 전위 순회 순서가 됨
+    private static final int SEGMENT_LENGTH = 8;
+    private static final String SEGMENT_DELIMITER = "/";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -24,10 +39,34 @@ public class Comment {
     @Column(nullable = false)
     private String username;
 
-    @JoinColumn(name = "board_id", nullable = false, updatable = false)
+    // 파티션 테이블은 외래 키를 가질 수 없다 (V5 마이그레이션). board_id는 파티션 키이므로 바꾸지 않는다
+    @JoinColumn(name = "board_id", nullable = false, updatable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     @ManyToOne
     private Board board;
 
+    @Column(name = "parent_id", updatable = false)
+    private Long parentId;
+    // 경로와 루트 id는 INSERT 직후 completePath()로 채워지므로 버전을 올리지 않는다
+    // (생성 응답의 버전과 커밋된 행의 버전이 같아야 If-Match가 동작함)
+    @OptimisticLock(excluded = true)
+    @Column(name = "root_id")
+    private Long rootId;
+    @Column(nullable = false, updatable = false)
+    private int depth;
+    @OptimisticLock(excluded = true)
+    @Column(length = (SEGMENT_LENGTH + 1) * (MAX_DEPTH + 1))
+    private String path;
+    @Transient
+    private String parentPath;
+    // completePath()가 남긴 UPDATE는 내용 수정이 아니므로 @PreUpdate에서 수정 시각을 바꾸지 않는다
+    @Transient
+    private boolean pathPending;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     @Column(name = "updated_at", nullable = false)
@@ -43,6 +82,11 @@ public class Comment {
 
     @PreUpdate
     private void onUpdate() {
+        // updatedAt은 버전 대상이므로 경로만 채우는 flush에서 바꾸면 버전이 올라 생성 응답의 ETag와 달라진다
+        if (pathPending) {
+            pathPending = false;
+            return;
+        }
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -56,7 +100,49 @@ public class Comment {
         return new Comment(content, username, board);
     }
 
+    public static Comment createReply(String content, String username, Comment parent) {
+        Comment reply = new Comment(content, username, parent.getBoard());
+        reply.parentId = parent.getId();
+        reply.rootId = parent.getRootId();
+        reply.depth = parent.getDepth() + 1;
+        reply.parentPath = parent.getPath();
+        return reply;
+    }
+
+    /**
+     * IDENTITY 전략이라 id는 INSERT 이후에 정해지므로, 저장 직후 호출해 경로와 루트 id를 채운다.
+     */
+    public void completePath() {
+        this.pathPending = true;
+        this.path = (parentPath == null ? "" : parentPath) + encodeSegment(id);
+        if (this.rootId == null) {
+            this.rootId = id;
+        }
+    }
+
+    public boolean isRoot() {
+        return parentId == null;
+    }
+
     public void update(String content) {
         this.content = content;
     }
+
+    public static String encodeSegment(Long id) {
+        String encoded = Long.toString(id, Character.MAX_RADIX);
+        return "0".repeat(Math.max(0, SEGMENT_LENGTH - encoded.length())) + encoded + SEGMENT_DELIMITER;
+    }
+
+    /**
+     * 경로에 포함된 조상 id를 가까운 조상부터 반환한다. (자기 자신 제외)
+     */
+    public static long[] ancestorIds(String path) {
+        int segments = path.length() / (SEGMENT_LENGTH + 1);
+        long[] ancestors = new long[Math.max(0, segments - 1)];
+        for (int i = 0; i < ancestors.length; i++) {
+            int start = (segments - 2 - i) * (SEGMENT_LENGTH + 1);
+            ancestors[i] = Long.parseLong(path.substring(start, start + SEGMENT_LENGTH), Character.MAX_RADIX);
+        }
+        return ancestors;
+    }
 }
@@ -0,0 +1,56 @@
+package com.brightcha.boardcomment.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_processed", columnList = "processed_at, id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "event_type", nullable = false, updatable = false)
+    private String eventType;
+    @Lob
+    @Column(nullable = false, updatable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+    // relay가 가져간 뒤 이 시각까지는 다른 인스턴스가 다시 가져가지 않는다
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+    // 일부 처리기만 실패한 경우 재전달할 처리기 이름(쉼표 구분). null이면 전체
+    @Column(name = "pending_handlers")
+    private String pendingHandlers;
+    // 처리기 실패로 재전달된 횟수. 횟수에 따라 claimedUntil로 다음 재전달을 늦춘다
+    @Column(nullable = false)
+    private int attempts;
+    // 최대 시도 횟수를 넘겨 relay 대상에서 뺀 시각. 원인을 고친 뒤 null로 되돌리면 다시 전달된다
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+
+    @PrePersist
+    private void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    private OutboxEvent(String eventType, String payload) {
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    public static OutboxEvent create(String eventType, String payload) {
+        return new OutboxEvent(eventType, payload);
+    }
+}
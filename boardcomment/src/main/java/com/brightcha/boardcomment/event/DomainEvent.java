@@ -0,0 +1,44 @@
+package com.brightcha.boardcomment.event;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * 쓰기 트랜잭션이 커밋된 뒤 처리되어야 하는 부수 효과(카운터, 캐시 무효화, 검색 색인 등)의 원인이 되는 이벤트.
+ * outbox 테이블에 JSON으로 저장되므로 타입 이름을 함께 직렬화한다.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = DomainEvent.BoardCreated.class, name = "BoardCreated"),
+        @JsonSubTypes.Type(value = DomainEvent.BoardUpdated.class, name = "BoardUpdated"),
+        @JsonSubTypes.Type(value = DomainEvent.BoardDeleted.class, name = "BoardDeleted"),
+        @JsonSubTypes.Type(value = DomainEvent.CommentCreated.class, name = "CommentCreated"),
+        @JsonSubTypes.Type(value = DomainEvent.CommentUpdated.class, name = "CommentUpdated"),
+        @JsonSubTypes.Type(value = DomainEvent.CommentDeleted.class, name = "CommentDeleted")
+})
+public sealed interface DomainEvent {
+
+    /**
+     * 이벤트가 속한 게시물 id. 조회 없이 수정한 댓글(Prefer: return=minimal)의 CommentUpdated는 수정 경로에
+     * SELECT를 더하지 않도록 null이다. 게시물이 필요한 처리기는 commentId로 댓글을 읽어 정한다 (CommentStreamHub).
+     */
+    Long boardId();
+
+    record BoardCreated(Long boardId) implements DomainEvent {
+    }
+
+    record BoardUpdated(Long boardId) implements DomainEvent {
+    }
+
+    record BoardDeleted(Long boardId) implements DomainEvent {
+    }
+
+    record CommentCreated(Long commentId, Long boardId) implements DomainEvent {
+    }
+
+    record CommentUpdated(Long commentId, Long boardId) implements DomainEvent {
+    }
+
+    record CommentDeleted(Long commentId, Long boardId) implements DomainEvent {
+    }
+}
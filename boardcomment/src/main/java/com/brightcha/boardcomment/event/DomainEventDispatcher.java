@@ -0,0 +1,210 @@
+package com.brightcha.boardcomment.event;
+
+import com.brightcha.boardcomment.config.datasource.DataSourceRoutingContext;
+import com.brightcha.boardcomment.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커밋된 이벤트를 제한된 크기의 큐에 모아 전용 스레드에서 배치 단위로 {@link DomainEventHandler}에 전달한다.
+ * 큐가 가득 차면 요청 스레드를 막지 않고 넘기며, 그 이벤트는 outbox에 남아 {@link OutboxRelay}가 다시 넣는다.
+ * <p>
+ * 이벤트는 primary 커밋 직후에 전달되므로 처리기의 조회는 primary에 고정한다. replica로 가면 복제 지연 동안
+ * 방금 커밋된 행이 없거나 이전 값이라 스트림에서 빠지거나 오래된 값이 나간다.
+ * <p>
+ * 처리기가 실패한 이벤트는 시도 횟수에 따라 retry-backoff부터 두 배씩(max-retry-backoff까지) 늦게 재전달하고,
+ * max-attempts번 실패하면 보류(park)해 더 이상 재전달하지 않는다.
+ */
+@Slf4j
+@Component
+public class DomainEventDispatcher implements SmartLifecycle {
+
+    private final List<DomainEventHandler> handlers;
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventProperties properties;
+    private final BlockingQueue<PendingEvent> queue;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public DomainEventDispatcher(List<DomainEventHandler> handlers,
+                                 OutboxEventRepository outboxEventRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 DomainEventProperties properties) {
+        this.handlers = handlers;
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+    }
+
+    /**
+     * @return 큐에 넣었으면 true. 가득 찼거나 이미 처리 중인 이벤트면 false (outbox relay가 나중에 처리)
+     */
+    public boolean enqueue(Long outboxId, DomainEvent event) {
+        return enqueue(outboxId, event, null, 0);
+    }
+
+    /**
+     * @param handlers 일부 처리기만 실패했던 이벤트를 재전달할 때 그 처리기 이름. null이면 전체
+     * @param attempts 지금까지 처리기 실패로 재전달된 횟수
+     */
+    public boolean enqueue(Long outboxId, DomainEvent event, Set<String> handlers, int attempts) {
+        if (!inFlight.add(outboxId)) {
+            return false;
+        }
+        if (!queue.offer(new PendingEvent(outboxId, event, handlers, attempts))) {
+            inFlight.remove(outboxId);
+            rejected.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public boolean isInFlight(Long outboxId) {
+        return inFlight.contains(outboxId);
+    }
+
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "domain-event-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        List<PendingEvent> batch = new ArrayList<>(properties.batchSize());
+        while (running) {
+            try {
+                PendingEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.batchSize() - 1);
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.forEach(pending -> inFlight.remove(pending.outboxId()));
+                batch.clear();
+            }
+        }
+    }
+
+    void dispatch(List<PendingEvent> batch) {
+        Map<Long, Set<String>> failed = new HashMap<>();
+        DataSourceRoutingContext.pinPrimary();
+        try {
+            for (DomainEventHandler handler : handlers) {
+                String name = handler.name();
+                List<PendingEvent> targets = batch.stream().filter(pending -> pending.isPendingFor(name)).toList();
+                if (targets.isEmpty()) {
+                    continue;
+                }
+                try {
+                    handler.handle(targets.stream().map(PendingEvent::event).toList());
+                } catch (RuntimeException e) {
+                    // 이 처리기만 재전달 대상으로 남겨 성공한 처리기가 다시 실행되지 않게 한다
+                    targets.forEach(pending -> failed.computeIfAbsent(pending.outboxId(), id -> new TreeSet<>()).add(name));
+                    log.warn("Domain event handler {} failed for {} events", name, targets.size(), e);
+                }
+            }
+        } finally {
+            DataSourceRoutingContext.clear();
+        }
+        List<Long> processed = batch.stream()
+                .map(PendingEvent::outboxId)
+                .filter(id -> !failed.containsKey(id))
+                .toList();
+        List<PendingEvent> retries = batch.stream().filter(pending -> failed.containsKey(pending.outboxId())).toList();
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!processed.isEmpty()) {
+                outboxEventRepository.markProcessed(processed, now);
+            }
+            for (PendingEvent pending : retries) {
+                String names = String.join(",", failed.get(pending.outboxId()));
+                int attempts = pending.attempts() + 1;
+                if (attempts >= properties.maxAttempts()) {
+                    outboxEventRepository.park(pending.outboxId(), names, attempts, now);
+                    log.error("Parked outbox event {} ({}) after {} failed attempts of handlers {}",
+                            pending.outboxId(), pending.event().getClass().getSimpleName(), attempts, names);
+                } else {
+                    outboxEventRepository.markHandlersPending(pending.outboxId(), names, attempts,
+                            now.plus(retryDelay(attempts)));
+                }
+            }
+        });
+    }
+
+    /**
+     * attempts번째 실패 뒤 다음 재전달까지의 지연. retry-backoff부터 두 배씩 늘고 max-retry-backoff를 넘지 않는다.
+     */
+    Duration retryDelay(int attempts) {
+        Duration delay = properties.retryBackoff().multipliedBy(1L << Math.min(attempts - 1, 30));
+        return delay.compareTo(properties.maxRetryBackoff()) > 0 ? properties.maxRetryBackoff() : delay;
+    }
+
+    /**
+     * @param handlers 전달할 처리기 이름. null이면 전체
+     */
+    record PendingEvent(Long outboxId, DomainEvent event, Set<String> handlers, int attempts) {
+
+        PendingEvent(Long outboxId, DomainEvent event) {
+            this(outboxId, event, null, 0);
+        }
+
+        boolean isPendingFor(String handler) {
+            return handlers == null || handlers.contains(handler);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.brightcha.boardcomment.event;
+
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * 커밋된 도메인 이벤트를 비동기로 묶어서 처리하는 부수 효과 처리기.
+ * 실패는 처리기별로 기록되어 실패한 처리기에만 다시 전달되지만, 처리 후 완료 기록 전에 종료되거나
+ * 처리 시간이 outbox 점유 시간을 넘기면 같은 이벤트를 다시 받으므로 멱등하게 구현해야 한다.
+ */
+public interface DomainEventHandler {
+
+    void handle(List<DomainEvent> events);
+
+    /**
+     * outbox에 재전달 대상으로 기록되는 이름. 배포 사이에 바뀌면 그 처리기의 재전달은 건너뛴다.
+     */
+    default String name() {
+        return ClassUtils.getUserClass(this).getSimpleName();
+    }
+}
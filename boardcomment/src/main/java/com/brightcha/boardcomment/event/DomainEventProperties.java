@@ -0,0 +1,20 @@
+package com.brightcha.boardcomment.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.events")
+public record DomainEventProperties(
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("10s") Duration relayGrace,
+        @DefaultValue("500") int relayBatchSize,
+        @DefaultValue("1d") Duration retention,
+        @DefaultValue("1m") Duration claimLease,
+        @DefaultValue("8") int maxAttempts,
+        @DefaultValue("10s") Duration retryBackoff,
+        @DefaultValue("10m") Duration maxRetryBackoff
+) {
+}
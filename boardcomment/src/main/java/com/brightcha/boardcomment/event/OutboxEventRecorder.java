@@ -0,0 +1,50 @@
+package com.brightcha.boardcomment.event;
+
+import com.brightcha.boardcomment.entity.OutboxEvent;
+import com.brightcha.boardcomment.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 발행된 도메인 이벤트를 같은 트랜잭션 안에서 outbox 테이블에 기록하고(크래시에도 유실 없음),
+ * 커밋이 끝나면 비동기 디스패처에 넘긴다. 롤백되면 outbox 행과 함께 이벤트도 사라진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final DomainEventDispatcher domainEventDispatcher;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void record(DomainEvent event) {
+        OutboxEvent outboxEvent = outboxEventRepository.save(
+                OutboxEvent.create(event.getClass().getSimpleName(), serialize(event)));
+        Long outboxId = outboxEvent.getId();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            domainEventDispatcher.enqueue(outboxId, event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                domainEventDispatcher.enqueue(outboxId, event);
+            }
+        });
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("cannot serialize domain event " + event, e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.brightcha.boardcomment.event;
+
+import com.brightcha.boardcomment.entity.OutboxEvent;
+import com.brightcha.boardcomment.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 커밋 후 큐에 들어가지 못했거나(큐 포화, 프로세스 종료) 처리에 실패한 outbox 이벤트를 주기적으로 다시 전달한다.
+ * 여러 인스턴스가 같은 행을 전달하지 않도록 SKIP LOCKED로 잠근 행만 가져가고, 점유 시간(claim-lease) 동안 표시해 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final DomainEventDispatcher domainEventDispatcher;
+    private final DomainEventProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Scheduled(fixedDelayString = "${app.events.relay-interval:5s}")
+    @Transactional
+    public void relayPending() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> pending = outboxEventRepository.findPendingForClaim(now.minus(properties.relayGrace()), now,
+                PageRequest.of(0, properties.relayBatchSize()));
+        List<Long> claimed = new ArrayList<>();
+        for (OutboxEvent outboxEvent : pending) {
+            if (domainEventDispatcher.isInFlight(outboxEvent.getId())) {
+                continue;
+            }
+            if (domainEventDispatcher.remainingCapacity() == 0) {
+                break;
+            }
+            DomainEvent event = deserialize(outboxEvent);
+            if (event == null) {
+                // 읽을 수 없는 이벤트가 매번 재조회되어 relay를 막지 않도록 처리 완료로 넘긴다
+                outboxEventRepository.markProcessed(List.of(outboxEvent.getId()), LocalDateTime.now());
+                continue;
+            }
+            if (domainEventDispatcher.enqueue(outboxEvent.getId(), event, pendingHandlers(outboxEvent),
+                    outboxEvent.getAttempts())) {
+                claimed.add(outboxEvent.getId());
+            }
+        }
+        if (!claimed.isEmpty()) {
+            outboxEventRepository.claim(claimed, now.plus(properties.claimLease()));
+        }
+    }
+
+    @Scheduled(cron = "${app.events.cleanup-cron:0 0 * * * *}")
+    @Transactional
+    public void deleteProcessed() {
+        int deleted = outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minus(properties.retention()));
+        if (deleted > 0) {
+            log.info("Deleted {} processed outbox events", deleted);
+        }
+    }
+
+    private Set<String> pendingHandlers(OutboxEvent outboxEvent) {
+        String handlers = outboxEvent.getPendingHandlers();
+        return handlers == null ? null : Set.of(handlers.split(","));
+    }
+
+    private DomainEvent deserialize(OutboxEvent outboxEvent) {
+        try {
+            return objectMapper.readValue(outboxEvent.getPayload(), DomainEvent.class);
+        } catch (JsonProcessingException e) {
+            log.error("Cannot deserialize outbox event {} ({})", outboxEvent.getId(), outboxEvent.getEventType(), e);
+            return null;
+        }
+    }
+}
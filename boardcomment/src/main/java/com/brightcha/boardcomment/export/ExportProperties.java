@@ -0,0 +1,12 @@
+package com.brightcha.boardcomment.export;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.export")
+public record ExportProperties(
+        String token,
+        // MySQL Connector/J는 Integer.MIN_VALUE일 때 행 단위 스트리밍 결과셋을 연다
+        @DefaultValue("-2147483648") int fetchSize
+) {
+}
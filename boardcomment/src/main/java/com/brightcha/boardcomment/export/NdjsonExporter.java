@@ -0,0 +1,88 @@
+package com.brightcha.boardcomment.export;
+
+import com.brightcha.boardcomment.config.datasource.DataSourceRoutingContext;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Locale;
+
+/**
+ * 살아 있는 게시물과 댓글을 한 줄에 하나씩 JSON(NDJSON)으로 내보낸다.
+ * <p>
+ * 전진 전용·읽기 전용 결과셋을 fetch size 스트리밍으로 읽으며 행마다 바로 출력하므로 메모리 사용량이 행 수와 무관하다.
+ * 트랜잭션 없이(auto-commit) 실행하고 읽기 요청으로 표시해, 라우팅이 켜져 있으면 replica에서 읽는다.
+ */
+@Component
+public class NdjsonExporter {
+
+    static final String BOARDS_SQL = "SELECT id, title, content, username, version, created_at, updated_at " +
+            "FROM boards WHERE deleted_at IS NULL ORDER BY id";
+    static final String COMMENTS_SQL = "SELECT id, board_id, parent_id, depth, content, username, version, created_at, updated_at " +
+            "FROM comments WHERE deleted_at IS NULL ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    // 값마다 flush 하지 않는다 (버퍼가 차면 컨테이너가 내보냄)
+    private final ObjectWriter valueWriter;
+
+    public NdjsonExporter(DataSource dataSource, ObjectMapper objectMapper, ExportProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.fetchSize());
+        this.objectMapper = objectMapper;
+        this.valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void export(OutputStream out) throws IOException {
+        DataSourceRoutingContext.markReadRequest();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            stream(BOARDS_SQL, "board", generator);
+            stream(COMMENTS_SQL, "comment", generator);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            DataSourceRoutingContext.clear();
+        }
+    }
+
+    private void stream(String sql, String type, JsonGenerator generator) {
+        jdbcTemplate.query(connection -> connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY),
+                resultSet -> {
+                    try {
+                        writeRow(type, resultSet, generator);
+                    } catch (IOException e) {
+                        // 클라이언트 연결이 끊기면 커서를 닫고 중단한다
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private void writeRow(String type, ResultSet resultSet, JsonGenerator generator) throws SQLException, IOException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        generator.writeStartObject();
+        generator.writeStringField("type", type);
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            Object value = resultSet.getObject(column);
+            if (value instanceof Timestamp timestamp) {
+                value = timestamp.toLocalDateTime();
+            }
+            generator.writeFieldName(metaData.getColumnLabel(column).toLowerCase(Locale.ROOT));
+            valueWriter.writeValue(generator, value);
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
@@ -0,0 +1,14 @@
+package com.brightcha.boardcomment.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("100000") int maxEntries,
+        @DefaultValue("10s") Duration waitTimeout
+) {
+}
@@ -0,0 +1,161 @@
+package com.brightcha.boardcomment.idempotency;
+
+import com.brightcha.boardcomment.common.exception.BoardCommentException;
+import com.brightcha.boardcomment.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 → 최초 응답을 보관하는 크기 제한·만료 저장소.
+ * <p>
+ * 같은 키로 재시도하면 DB를 거치지 않고 최초 결과를 그대로 돌려준다. 최초 요청이 아직 처리 중이면 그 결과를
+ * CompletableFuture로 기다리고, 실패했다면 항목을 지워 다음 재시도가 다시 실행되게 한다.
+ * 같은 키에 다른 요청 본문이 오면 422로 거절한다. 프로세스 내 저장소이므로 인스턴스 간에는 공유되지 않는다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final long waitTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IdempotencyStore(IdempotencyProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    IdempotencyStore(IdempotencyProperties properties, LongSupplier nanoClock) {
+        this.ttlNanos = properties.ttl().toNanos();
+        this.maxEntries = properties.maxEntries();
+        this.waitTimeoutNanos = properties.waitTimeout().toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * key가 없으면 action을 그대로 실행한다. scope는 엔드포인트별로 키 공간을 나누며 "메서드 경로" 형식이다
+     * (쓰기 제한 인터셉터가 같은 형식으로 재시도를 알아본다). fingerprint는 equals로 비교할 수 있는 요청 본문(DTO)이다.
+     * 속도 제한처럼 최초 실행에만 적용할 검사는 action 안에서 한다.
+     */
+    public <T> T execute(String scope, String key, Object fingerprint, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BoardCommentException(ErrorCode.INVALID_IDEMPOTENCY_KEY, key);
+        }
+        String storeKey = scope + " " + key;
+        while (true) {
+            long now = nanoClock.getAsLong();
+            Entry existing = entries.get(storeKey);
+            if (existing != null && existing.isExpired(now)) {
+                entries.remove(storeKey, existing);
+                continue;
+            }
+            if (existing != null) {
+                return awaitExisting(existing, fingerprint);
+            }
+            if (entries.size() >= maxEntries) {
+                evictExpired();
+                if (entries.size() >= maxEntries) {
+                    // 저장소가 가득 차면 중복 제거 없이 처리한다 (요청 자체를 막지는 않는다)
+                    log.warn("Idempotency store is full, executing {} without deduplication", scope);
+                    return action.get();
+                }
+            }
+            Entry created = new Entry(fingerprint, new CompletableFuture<>(), now + ttlNanos);
+            if (entries.putIfAbsent(storeKey, created) == null) {
+                return run(storeKey, created, action);
+            }
+        }
+    }
+
+    /**
+     * 같은 키의 최초 요청이 성공해 저장된 결과를 그대로 돌려줄 수 있으면 true.
+     */
+    public boolean isCompleted(String scope, String key) {
+        if (key == null) {
+            return false;
+        }
+        Entry entry = entries.get(scope + " " + key);
+        return entry != null && !entry.isExpired(nanoClock.getAsLong())
+                && entry.result().isDone() && !entry.result().isCompletedExceptionally();
+    }
+
+    /**
+     * 같은 키의 최초 요청이 아직 처리 중이라 이 요청은 실행하지 않고 그 결과를 기다리기만 하면 true.
+     */
+    public boolean isInProgress(String scope, String key) {
+        if (key == null) {
+            return false;
+        }
+        Entry entry = entries.get(scope + " " + key);
+        return entry != null && !entry.isExpired(nanoClock.getAsLong()) && !entry.result().isDone();
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.evict-interval:1m}")
+    public void evictExpired() {
+        long now = nanoClock.getAsLong();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private <T> T run(String storeKey, Entry entry, Supplier<T> action) {
+        try {
+            T result = action.get();
+            entry.result().complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            entries.remove(storeKey, entry);
+            entry.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T awaitExisting(Entry entry, Object fingerprint) {
+        if (!Objects.equals(entry.fingerprint(), fingerprint)) {
+            throw new BoardCommentException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        try {
+            return (T) entry.result().get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new BoardCommentException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BoardCommentException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            // 최초 요청이 실패했으면 같은 오류를 돌려준다 (항목은 이미 지워져 다음 재시도는 새로 실행됨)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record Entry(Object fingerprint, CompletableFuture<Object> result, long expiresAt) {
+        boolean isExpired(long now) {
+            return expiresAt - now <= 0;
+        }
+    }
+}
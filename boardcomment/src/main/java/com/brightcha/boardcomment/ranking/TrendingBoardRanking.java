@@ -0,0 +1,127 @@
+package com.brightcha.boardcomment.ranking;
+
+import com.brightcha.boardcomment.dto.TrendingBoardResponseDto;
+import com.brightcha.boardcomment.event.DomainEvent;
+import com.brightcha.boardcomment.event.DomainEventHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시물별 시간 감쇠 점수를 메모리에서 갱신하고 상위 K개를 주기적으로 스냅숏한다.
+ * <p>
+ * 점수는 반감기마다 절반으로 줄어드는 지수 감쇠 값이며, 게시물마다 (점수, 기준 시각) 쌍을 AtomicReference로 두고
+ * CAS로 갱신하므로 쓰기 경로에 락이 없다. 조회는 volatile로 발행된 불변 스냅숏을 읽기만 하므로 O(K)이고 DB를 거치지 않는다.
+ * 이벤트 전달이 at-least-once라 재전달된 댓글은 한 번 더 집계될 수 있는데, 순위 용도로는 허용한다.
+ */
+@Component
+public class TrendingBoardRanking implements DomainEventHandler {
+
+    private static final Comparator<TrendingBoardResponseDto> BY_SCORE =
+            Comparator.comparingDouble(TrendingBoardResponseDto::score);
+
+    private final TrendingProperties properties;
+    private final double decayPerMillis;
+    private final LongSupplier millisClock;
+    private final Map<Long, AtomicReference<Score>> scores = new ConcurrentHashMap<>();
+    private volatile List<TrendingBoardResponseDto> snapshot = List.of();
+
+    @Autowired
+    public TrendingBoardRanking(TrendingProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    TrendingBoardRanking(TrendingProperties properties, LongSupplier millisClock) {
+        this.properties = properties;
+        this.decayPerMillis = Math.log(2) / properties.halfLife().toMillis();
+        this.millisClock = millisClock;
+    }
+
+    @Override
+    public void handle(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (event instanceof DomainEvent.CommentCreated created) {
+                add(created.boardId(), properties.commentWeight());
+            } else if (event instanceof DomainEvent.BoardDeleted deleted) {
+                scores.remove(deleted.boardId());
+            }
+        }
+    }
+
+    public void recordView(Long boardId) {
+        add(boardId, properties.viewWeight());
+    }
+
+    /**
+     * 마지막 스냅숏 기준 상위 limit개. 스냅숏 주기만큼 늦을 수 있다.
+     */
+    public List<TrendingBoardResponseDto> top(int limit) {
+        List<TrendingBoardResponseDto> current = snapshot;
+        return current.size() <= limit ? current : current.subList(0, Math.max(limit, 0));
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.snapshot-interval:5s}")
+    public void refreshSnapshot() {
+        long now = millisClock.getAsLong();
+        int topK = properties.topK();
+        // 크기 K의 최소 힙으로 O(N log K)에 상위 K개를 고른다
+        PriorityQueue<TrendingBoardResponseDto> heap = new PriorityQueue<>(topK + 1, BY_SCORE);
+        for (Map.Entry<Long, AtomicReference<Score>> entry : scores.entrySet()) {
+            double score = entry.getValue().get().valueAt(now, decayPerMillis);
+            if (score < properties.minScore()) {
+                // 충분히 식은 게시물은 추적을 멈춘다 (동시에 들어온 작은 증가분은 버려질 수 있음)
+                scores.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            if (heap.size() < topK) {
+                heap.add(new TrendingBoardResponseDto(entry.getKey(), score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.add(new TrendingBoardResponseDto(entry.getKey(), score));
+            }
+        }
+        List<TrendingBoardResponseDto> ranked = new ArrayList<>(heap);
+        ranked.sort(BY_SCORE.reversed());
+        snapshot = List.copyOf(ranked);
+    }
+
+    int trackedBoards() {
+        return scores.size();
+    }
+
+    private void add(Long boardId, double weight) {
+        if (boardId == null) {
+            return;
+        }
+        AtomicReference<Score> score = scores.get(boardId);
+        if (score == null) {
+            if (scores.size() >= properties.maxTracked()) {
+                // 추적 한도에 닿으면 새 게시물은 다음 스냅숏에서 식은 항목이 정리될 때까지 무시한다
+                return;
+            }
+            score = scores.computeIfAbsent(boardId, id -> new AtomicReference<>(Score.ZERO));
+        }
+        long now = millisClock.getAsLong();
+        score.updateAndGet(current -> new Score(current.valueAt(now, decayPerMillis) + weight, now));
+    }
+
+    private record Score(double value, long atMillis) {
+        static final Score ZERO = new Score(0, 0);
+
+        double valueAt(long now, double decayPerMillis) {
+            if (value == 0) {
+                return 0;
+            }
+            return value * Math.exp(-decayPerMillis * Math.max(0, now - atMillis));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.brightcha.boardcomment.ranking;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.trending")
+public record TrendingProperties(
+        @DefaultValue("6h") Duration halfLife,
+        @DefaultValue("50") int topK,
+        @DefaultValue("5.0") double commentWeight,
+        @DefaultValue("1.0") double viewWeight,
+        @DefaultValue("0.01") double minScore,
+        @DefaultValue("100000") int maxTracked
+) {
+}
@@ -0,0 +1,64 @@
+package com.brightcha.boardcomment.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD(additive increase, multiplicative decrease) 방식의 적응형 동시 실행 제한.
+ * <p>
+ * 처리 시간이 임계값 안이고 한도의 절반 이상을 쓰고 있으면 한도를 1 올리고,
+ * 임계값을 넘거나 실패하면 한도에 backoffRatio를 곱해 줄인다. DB가 밀리기 시작하면 한도가 빠르게 내려가
+ * 초과 쓰기 요청이 커넥션 풀 대기열에 쌓이기 전에 거절된다.
+ */
+public class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("invalid concurrency limit settings");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = new AtomicInteger(Math.clamp(initialLimit, minLimit, maxLimit));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire에 성공한 요청마다 정확히 한 번 호출한다.
+     */
+    public void release(long latencyNanos, boolean failed) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+        } else if (inFlightBefore * 2 >= limit.get()) {
+            // 한도를 충분히 쓰고 있을 때만 늘려서, 한가할 때 한도가 무한정 커지지 않게 한다
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
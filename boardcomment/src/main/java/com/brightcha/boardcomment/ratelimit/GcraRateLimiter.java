@@ -0,0 +1,73 @@
+package com.brightcha.boardcomment.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷과 동일하게 동작하는 GCRA(Generic Cell Rate Algorithm) 제한기.
+ * <p>
+ * 키마다 "다음 요청이 도착해야 할 이론적 시각(TAT)" 하나만 AtomicLong으로 두고 CAS로 갱신하므로 락이 없다.
+ * 키 맵은 ConcurrentHashMap이라 서로 다른 키끼리는 경합하지 않는다.
+ * 버킷이 가득 찬(TAT가 지난) 키는 상태가 없는 것과 같으므로 {@link #evictIdle()}로 제거해 메모리를 제한한다.
+ */
+public class GcraRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final Map<String, AtomicLong> theoreticalArrivals = new ConcurrentHashMap<>();
+
+    public GcraRateLimiter(double ratePerSecond, int burst, int maxKeys) {
+        this(ratePerSecond, burst, maxKeys, System::nanoTime);
+    }
+
+    GcraRateLimiter(double ratePerSecond, int burst, int maxKeys, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate must be positive and burst at least 1");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong tat = theoreticalArrivals.get(key);
+        if (tat == null) {
+            if (theoreticalArrivals.size() >= maxKeys) {
+                evictIdle();
+            }
+            if (theoreticalArrivals.size() >= maxKeys) {
+                // 정리 후에도 가득 차면 새 키는 추적하지 않고 통과시킨다 (동시성 제한이 마지막 방어선)
+                return true;
+            }
+            tat = theoreticalArrivals.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long current = tat.get();
+            long base = current - now < 0 ? now : current;
+            if (base - now > burstToleranceNanos) {
+                return false;
+            }
+            if (tat.compareAndSet(current, base + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 다시 가득 찬 키를 제거한다. 제거와 동시에 갱신된 키는 토큰 하나를 돌려받는 정도의 오차만 생긴다.
+     */
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        theoreticalArrivals.values().removeIf(tat -> tat.get() - now <= 0);
+    }
+
+    public int trackedKeys() {
+        return theoreticalArrivals.size();
+    }
+}
@@ -0,0 +1,80 @@
+package com.brightcha.boardcomment.ratelimit;
+
+import com.brightcha.boardcomment.common.exception.BoardCommentException;
+import com.brightcha.boardcomment.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쓰기 요청 허용 여부 판단. 서비스 계층에 닿기 전에 사용자별/IP별 속도 제한과 적응형 동시 실행 제한을 적용하고
+ * 초과분은 429(TOO_MANY_REQUESTS)로 거절한다.
+ */
+@Component
+public class WriteAdmission {
+
+    private static final String REJECTED_METRIC = "board.write.rejected";
+
+    private final boolean enabled;
+    private final GcraRateLimiter userLimiter;
+    private final GcraRateLimiter ipLimiter;
+    private final AimdConcurrencyLimiter concurrencyLimiter;
+    private final Counter userRejections;
+    private final Counter ipRejections;
+    private final Counter concurrencyRejections;
+
+    public WriteAdmission(WriteLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.userLimiter = new GcraRateLimiter(properties.userRate(), properties.userBurst(), properties.maxKeys());
+        this.ipLimiter = new GcraRateLimiter(properties.ipRate(), properties.ipBurst(), properties.maxKeys());
+        this.concurrencyLimiter = new AimdConcurrencyLimiter(properties.initialConcurrency(), properties.minConcurrency(),
+                properties.maxConcurrency(), properties.latencyThreshold().toNanos(), properties.backoffRatio());
+        this.userRejections = meterRegistry.counter(REJECTED_METRIC, "reason", "user");
+        this.ipRejections = meterRegistry.counter(REJECTED_METRIC, "reason", "ip");
+        this.concurrencyRejections = meterRegistry.counter(REJECTED_METRIC, "reason", "concurrency");
+        Gauge.builder("board.write.concurrency.limit", concurrencyLimiter, AimdConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("board.write.concurrency.in-flight", concurrencyLimiter, AimdConcurrencyLimiter::getInFlight)
+                .register(meterRegistry);
+    }
+
+    public void checkClient(String clientIp) {
+        if (enabled && clientIp != null && !ipLimiter.tryAcquire(clientIp)) {
+            ipRejections.increment();
+            throw new BoardCommentException(ErrorCode.TOO_MANY_REQUESTS, "ip");
+        }
+    }
+
+    public void checkUser(String username) {
+        if (enabled && username != null && !userLimiter.tryAcquire(username)) {
+            userRejections.increment();
+            throw new BoardCommentException(ErrorCode.TOO_MANY_REQUESTS, "user");
+        }
+    }
+
+    /**
+     * 동시 실행 슬롯을 얻는다. 성공하면 반드시 {@link #exit(long, boolean)}를 호출해야 한다.
+     */
+    public boolean enter() {
+        if (!enabled) {
+            return false;
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            concurrencyRejections.increment();
+            throw new BoardCommentException(ErrorCode.TOO_MANY_REQUESTS, "concurrency");
+        }
+        return true;
+    }
+
+    public void exit(long latencyNanos, boolean failed) {
+        concurrencyLimiter.release(latencyNanos, failed);
+    }
+
+    @Scheduled(fixedDelayString = "${app.write-limit.evict-interval:1m}")
+    public void evictIdle() {
+        userLimiter.evictIdle();
+        ipLimiter.evictIdle();
+    }
+}
@@ -0,0 +1,65 @@
+package com.brightcha.boardcomment.ratelimit;
+
+import com.brightcha.boardcomment.idempotency.IdempotencyStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 쓰기 메서드(POST/PUT/PATCH/DELETE) 요청에 IP별 속도 제한과 동시 실행 제한을 적용한다.
+ * preHandle에서 던진 예외는 GlobalControllerAdvice가 처리하므로 다른 오류와 같은 형식의 429 응답이 나간다.
+ * 사용자 이름은 요청 본문에 있으므로 사용자별 제한은 컨트롤러에서 {@link WriteAdmission#checkUser(String)}로 적용한다.
+ * <p>
+ * 클라이언트 IP는 server.forward-headers-strategy로 프록시의 X-Forwarded-For를 반영한 주소다.
+ * 이미 완료된 Idempotency-Key 재시도는 저장된 응답만 돌려주므로 제한을 적용하지 않는다.
+ * 최초 요청이 처리 중인 재시도는 실행하지 않고 그 결과를 기다리기만 하므로 동시 실행 슬롯을 잡지 않는다.
+ * 슬롯을 잡으면 대기(최대 app.idempotency.wait-timeout) 동안 실제 쓰기의 자리를 막고, 대기 시간이 지연 시간 표본으로
+ * 보고되어 동시 실행 한도를 잘못 낮춘다.
+ */
+public class WriteAdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_AT = WriteAdmissionInterceptor.class.getName() + ".startedAt";
+
+    private final WriteAdmission writeAdmission;
+    private final IdempotencyStore idempotencyStore;
+
+    public WriteAdmissionInterceptor(WriteAdmission writeAdmission, IdempotencyStore idempotencyStore) {
+        this.writeAdmission = writeAdmission;
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!isWrite(request.getMethod())) {
+            return true;
+        }
+        String key = request.getHeader(IdempotencyStore.HEADER);
+        String scope = scope(request);
+        if (idempotencyStore.isCompleted(scope, key)) {
+            return true;
+        }
+        writeAdmission.checkClient(request.getRemoteAddr());
+        if (!idempotencyStore.isInProgress(scope, key) && writeAdmission.enter()) {
+            request.setAttribute(STARTED_AT, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(STARTED_AT) instanceof Long startedAt) {
+            request.removeAttribute(STARTED_AT);
+            boolean failed = ex != null || response.getStatus() >= 500;
+            writeAdmission.exit(System.nanoTime() - startedAt, failed);
+        }
+    }
+
+    private String scope(HttpServletRequest request) {
+        return request.getMethod() + " " + request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private boolean isWrite(String method) {
+        return !(HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method));
+    }
+}
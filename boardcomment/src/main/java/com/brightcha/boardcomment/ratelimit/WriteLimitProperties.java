@@ -0,0 +1,22 @@
+package com.brightcha.boardcomment.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.write-limit")
+public record WriteLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("2") double userRate,
+        @DefaultValue("10") int userBurst,
+        @DefaultValue("20") double ipRate,
+        @DefaultValue("50") int ipBurst,
+        @DefaultValue("100000") int maxKeys,
+        @DefaultValue("20") int initialConcurrency,
+        @DefaultValue("4") int minConcurrency,
+        @DefaultValue("200") int maxConcurrency,
+        @DefaultValue("200ms") Duration latencyThreshold,
+        @DefaultValue("0.9") double backoffRatio
+) {
+}
@@ -1,7 +1,46 @@
 package com.brightcha.boardcomment.repository;
 
 import com.brightcha.boardcomment.entity.Board;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface BoardRepository extends JpaRepository<Board, Long> {
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardMultiLoadRepository {
+
+    @Query("SELECT b.id FROM Board b WHERE b.id > :afterId ORDER BY b.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT b.id AS id, b.title AS title, b.username AS username, " +
+            "SUBSTRING(b.content, 1, :previewLength) AS preview, b.createdAt AS createdAt, b.updatedAt AS updatedAt " +
+            "FROM Board b ORDER BY b.id")
+    List<BoardSummary> findAllSummaries(@Param("previewLength") int previewLength);
+
+    @Query("SELECT b.id AS id, b.title AS title, b.username AS username, " +
+            "SUBSTRING(b.content, 1, :previewLength) AS preview, b.createdAt AS createdAt, b.updatedAt AS updatedAt " +
+            "FROM Board b ORDER BY b.id DESC")
+    Slice<BoardSummary> findLatestSummaries(@Param("previewLength") int previewLength, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Board b SET b.title = :title, b.content = :content, b.updatedAt = :updatedAt, b.version = b.version + 1 " +
+            "WHERE b.id = :id AND b.deletedAt IS NULL AND (:expectedVersion IS NULL OR b.version = :expectedVersion)")
+    int updateContent(@Param("id") Long id,
+                      @Param("title") String title,
+                      @Param("content") String content,
+                      @Param("updatedAt") LocalDateTime updatedAt,
+                      @Param("expectedVersion") Long expectedVersion);
+
+    interface BoardSummary {
+        Long getId();
+        String getTitle();
+        String getUsername();
+        String getPreview();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
 }
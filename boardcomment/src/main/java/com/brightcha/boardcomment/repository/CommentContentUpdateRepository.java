@@ -0,0 +1,14 @@
+package com.brightcha.boardcomment.repository;
+
+import java.time.LocalDateTime;
+
+public interface CommentContentUpdateRepository {
+
+    /**
+     * 엔티티를 읽지 않고 내용과 버전만 UPDATE 한다. expectedVersion이 null이면 버전을 검사하지 않는다.
+     * 2차 캐시는 커밋 후 이 댓글 하나만 지운다.
+     *
+     * @return 수정된 행 수. 없거나 삭제됐거나 버전이 다르면 0
+     */
+    int updateContent(Long id, String content, LocalDateTime updatedAt, Long expectedVersion);
+}
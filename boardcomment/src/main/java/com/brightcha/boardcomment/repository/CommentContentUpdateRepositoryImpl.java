@@ -0,0 +1,59 @@
+package com.brightcha.boardcomment.repository;
+
+import com.brightcha.boardcomment.entity.Comment;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+/**
+ * HQL 벌크 UPDATE는 실행할 때마다 Comment 2차 캐시 영역 전체를 비우므로, 같은 커넥션에서 JDBC로 실행하고
+ * 바뀐 댓글 하나만 지운다. 내용 수정은 게시물별 댓글 목록(쿼리 캐시)의 id 구성을 바꾸지 않는다.
+ */
+@RequiredArgsConstructor
+public class CommentContentUpdateRepositoryImpl implements CommentContentUpdateRepository {
+
+    private static final String UPDATE_CONTENT = "UPDATE comments SET content = ?, updated_at = ?, version = version + 1 " +
+            "WHERE id = ? AND deleted_at IS NULL AND (? IS NULL OR version = ?)";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int updateContent(Long id, String content, LocalDateTime updatedAt, Long expectedVersion) {
+        Session session = entityManager.unwrap(Session.class);
+        int updated = session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_CONTENT)) {
+                statement.setString(1, content);
+                statement.setTimestamp(2, Timestamp.valueOf(updatedAt));
+                statement.setLong(3, id);
+                statement.setObject(4, expectedVersion, Types.BIGINT);
+                statement.setObject(5, expectedVersion, Types.BIGINT);
+                return statement.executeUpdate();
+            }
+        });
+        if (updated > 0) {
+            // 커밋 전에 다른 트랜잭션이 이전 행을 다시 캐시할 수 있으므로 커밋 후에 지운다
+            afterCommit(() -> session.getSessionFactory().getCache().evictEntityData(Comment.class, id));
+        }
+        return updated;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package com.brightcha.boardcomment.repository;
+
+import com.brightcha.boardcomment.entity.Comment;
+
+import java.util.List;
+
+public interface CommentMultiLoadRepository {
+
+    /**
+     * ids와 같은 순서로 반환하고 없는 id 자리에는 null을 둔다.
+     */
+    List<Comment> findAllByIdInOrder(List<Long> ids);
+}
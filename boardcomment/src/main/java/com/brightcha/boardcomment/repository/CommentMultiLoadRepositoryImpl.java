@@ -0,0 +1,26 @@
+package com.brightcha.boardcomment.repository;
+
+import com.brightcha.boardcomment.entity.Comment;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.util.List;
+
+/**
+ * Hibernate multiLoad로 영속성 컨텍스트와 2차 캐시를 먼저 확인하고, 나머지만 WHERE id IN (...)으로 읽는다.
+ */
+@RequiredArgsConstructor
+public class CommentMultiLoadRepositoryImpl implements CommentMultiLoadRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Comment> findAllByIdInOrder(List<Long> ids) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Comment.class)
+                .enableOrderedReturn(true)
+                .enableSessionCheck(true)
+                .multiLoad(ids);
+    }
+}
@@ -1,11 +1,81 @@
 package com.brightcha.boardcomment.repository;
 
 import com.brightcha.boardcomment.entity.Comment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+/**
+ * comments 테이블은 board_id로 HASH 파티션되어 있다 (V5 마이그레이션).
+ * 게시물 단위 조회는 board_id 조건을 반드시 포함해 한 파티션(IN이면 해당 파티션들)만 읽게 한다.
+ * id만으로 찾는 경우(findById, updateContent, 엔티티 수정/삭제의 UPDATE)는 모든 파티션의 기본 키를 확인한다.
+ */
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentMultiLoadRepository,
+        CommentContentUpdateRepository {
+    String BY_BOARD_QUERY_REGION = "comment-by-board-query";
+
+    // 결과 id 목록은 쿼리 캐시에, 엔티티는 2차 캐시에 두고 comments 테이블이 바뀌면 함께 무효화된다
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = BY_BOARD_QUERY_REGION)
+    })
     List<Comment> findAllByBoardId(Long boardId);
+
+    Slice<Comment> findAllByBoardIdAndParentIdIsNullOrderByIdAsc(Long boardId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c " +
+            "WHERE c.board.id = :boardId AND c.rootId = :rootId AND c.path LIKE CONCAT(:path, '%') ORDER BY c.path")
+    List<Comment> findSubtree(@Param("boardId") Long boardId, @Param("rootId") Long rootId, @Param("path") String path);
+
+    @Query("SELECT c.rootId AS rootId, COUNT(c) AS replyCount FROM Comment c " +
+            "WHERE c.board.id = :boardId AND c.rootId IN :rootIds AND c.parentId IS NOT NULL GROUP BY c.rootId")
+    List<ReplyCount> countRepliesByRootIds(@Param("boardId") Long boardId, @Param("rootIds") Collection<Long> rootIds);
+
+    @Query("SELECT c.board.id AS boardId, COUNT(c) AS commentCount FROM Comment c " +
+            "WHERE c.board.id IN :boardIds GROUP BY c.board.id")
+    List<CommentCount> countByBoardIds(@Param("boardIds") Collection<Long> boardIds);
+
+    /**
+     * 게시물마다 최신 댓글 limit개. 윈도 함수(MySQL 8+)로 게시물 수와 관계없이 쿼리 한 번에 가져온다.
+     * 네이티브 쿼리라 @Where가 적용되지 않으므로 삭제 조건을 직접 건다.
+     */
+    @Query(value = "SELECT ranked.id AS id, ranked.board_id AS boardId, ranked.parent_id AS parentId, ranked.depth AS depth, " +
+            "ranked.content AS content, ranked.username AS username, ranked.version AS version, " +
+            "ranked.created_at AS createdAt, ranked.updated_at AS updatedAt " +
+            "FROM (SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.board_id ORDER BY c.id DESC) AS rn " +
+            "      FROM comments c WHERE c.board_id IN (:boardIds) AND c.deleted_at IS NULL) ranked " +
+            "WHERE ranked.rn <= :limit ORDER BY ranked.board_id, ranked.id DESC",
+            nativeQuery = true)
+    List<LatestComment> findLatestByBoardIds(@Param("boardIds") Collection<Long> boardIds, @Param("limit") int limit);
+
+    interface ReplyCount {
+        Long getRootId();
+        long getReplyCount();
+    }
+
+    interface CommentCount {
+        Long getBoardId();
+        long getCommentCount();
+    }
+
+    interface LatestComment {
+        Long getId();
+        Long getBoardId();
+        Long getParentId();
+        int getDepth();
+        String getContent();
+        String getUsername();
+        Long getVersion();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
 }
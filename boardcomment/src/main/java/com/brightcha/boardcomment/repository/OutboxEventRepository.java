@@ -0,0 +1,64 @@
+package com.brightcha.boardcomment.repository;
+
+import com.brightcha.boardcomment.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    // org.hibernate.LockOptions.SKIP_LOCKED → MySQL 8 "FOR UPDATE SKIP LOCKED"
+    String SKIP_LOCKED = "-2";
+
+    /**
+     * 다른 인스턴스가 가져가지 않은 미처리 이벤트를 잠근다. 다른 인스턴스가 잠근 행은 기다리지 않고 건너뛴다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = SKIP_LOCKED))
+    @Query("SELECT o FROM OutboxEvent o WHERE o.processedAt IS NULL AND o.parkedAt IS NULL AND o.createdAt < :before " +
+            "AND (o.claimedUntil IS NULL OR o.claimedUntil < :now) ORDER BY o.id")
+    List<OutboxEvent> findPendingForClaim(@Param("before") LocalDateTime before,
+                                          @Param("now") LocalDateTime now,
+                                          Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.claimedUntil = :claimedUntil WHERE o.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    /**
+     * 실패한 처리기를 기록하고 retryAt까지 relay가 다시 가져가지 않게 한다.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.pendingHandlers = :handlers, o.attempts = :attempts, o.claimedUntil = :retryAt " +
+            "WHERE o.id = :id")
+    int markHandlersPending(@Param("id") Long id,
+                            @Param("handlers") String handlers,
+                            @Param("attempts") int attempts,
+                            @Param("retryAt") LocalDateTime retryAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.pendingHandlers = :handlers, o.attempts = :attempts, o.parkedAt = :parkedAt " +
+            "WHERE o.id = :id")
+    int park(@Param("id") Long id,
+             @Param("handlers") String handlers,
+             @Param("attempts") int attempts,
+             @Param("parkedAt") LocalDateTime parkedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.processedAt = :processedAt WHERE o.id IN :ids")
+    int markProcessed(@Param("ids") Collection<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
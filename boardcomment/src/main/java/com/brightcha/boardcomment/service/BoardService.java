@@ -1,14 +1,22 @@
 package com.brightcha.boardcomment.service;
 
+import com.brightcha.boardcomment.dto.BatchLookupResponseDto;
+import com.brightcha.boardcomment.dto.BoardFeedResponseDto;
 import com.brightcha.boardcomment.dto.BoardRequestDto;
 import com.brightcha.boardcomment.dto.BoardResponseDto;
+import com.brightcha.boardcomment.dto.BoardSummaryResponseDto;
 
 import java.util.List;
+import java.util.Set;
 
 public interface BoardService {
     BoardResponseDto getBoard(Long boardId);
     List<BoardResponseDto> getBoards();
+    BatchLookupResponseDto<BoardResponseDto> getBoardsByIds(List<Long> boardIds);
+    List<BoardSummaryResponseDto> getBoardSummaries(Set<String> fields);
+    BoardFeedResponseDto getFeed(int page, int size, int commentsPerBoard);
     BoardResponseDto createBoard(BoardRequestDto boardRequestDto);
-    BoardResponseDto updateBoard(Long boardId, BoardRequestDto boardRequestDto);
+    BoardResponseDto updateBoard(Long boardId, BoardRequestDto boardRequestDto, Long expectedVersion);
+    void updateBoardInPlace(Long boardId, BoardRequestDto boardRequestDto, Long expectedVersion);
     void deleteBoard(Long boardId);
 }
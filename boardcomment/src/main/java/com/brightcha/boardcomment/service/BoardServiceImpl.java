@@ -1,16 +1,34 @@
 package com.brightcha.boardcomment.service;
 
+import com.brightcha.boardcomment.cache.BoardExistenceFilter;
+import com.brightcha.boardcomment.common.exception.BoardCommentException;
+import com.brightcha.boardcomment.common.exception.ErrorCode;
+import com.brightcha.boardcomment.dto.BatchLookupResponseDto;
+import com.brightcha.boardcomment.dto.BoardFeedItemResponseDto;
+import com.brightcha.boardcomment.dto.BoardFeedResponseDto;
 import com.brightcha.boardcomment.dto.BoardRequestDto;
 import com.brightcha.boardcomment.dto.BoardResponseDto;
+import com.brightcha.boardcomment.dto.BoardSummaryResponseDto;
+import com.brightcha.boardcomment.dto.CommentResponseDto;
 import com.brightcha.boardcomment.entity.Board;
+import com.brightcha.boardcomment.entity.Comment;
+import com.brightcha.boardcomment.event.DomainEvent;
 import com.brightcha.boardcomment.repository.BoardRepository;
-import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
+import com.brightcha.boardcomment.repository.CommentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -18,15 +36,23 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BoardServiceImpl implements BoardService {
 
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+    private static final int MAX_FEED_COMMENTS = 10;
+
     private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final BoardExistenceFilter boardExistenceFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional(readOnly = true)
     public BoardResponseDto getBoard(Long boardId) {
         Board board = getBoardByIdOrException(boardId);
         return BoardResponseDto.from(board);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BoardResponseDto> getBoards() {
         List<Board> boards = boardRepository.findAll();
         return boards.stream()
@@ -34,27 +60,137 @@ public class BoardServiceImpl implements BoardService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BatchLookupResponseDto<BoardResponseDto> getBoardsByIds(List<Long> boardIds) {
+        checkBatchSize(boardIds);
+        // 필터가 없다고 판단한 id는 DB에 묻지 않는다
+        List<Long> candidates = boardIds.stream()
+                .distinct()
+                .filter(boardId -> !boardExistenceFilter.definitelyMissing(boardId))
+                .toList();
+        Map<Long, BoardResponseDto> found = new HashMap<>();
+        if (!candidates.isEmpty()) {
+            List<Board> boards = boardRepository.findAllByIdInOrder(candidates);
+            for (int i = 0; i < candidates.size(); i++) {
+                Board board = boards.get(i);
+                if (board == null) {
+                    boardExistenceFilter.markMissing(candidates.get(i));
+                } else {
+                    found.put(board.getId(), BoardResponseDto.from(board));
+                }
+            }
+        }
+        return BatchLookupResponseDto.of(boardIds, found);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BoardSummaryResponseDto> getBoardSummaries(Set<String> fields) {
+        // 본문 전체 대신 DB에서 잘라낸 미리보기만 읽는다 (잘림 여부 판단을 위해 한 글자 더)
+        return boardRepository.findAllSummaries(BoardSummaryResponseDto.PREVIEW_LENGTH + 1).stream()
+                .map(BoardSummaryResponseDto::from)
+                .map(summary -> summary.select(fields))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BoardFeedResponseDto getFeed(int page, int size, int commentsPerBoard) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_FEED_PAGE_SIZE));
+        int limit = Math.min(Math.max(commentsPerBoard, 0), MAX_FEED_COMMENTS);
+        Slice<BoardRepository.BoardSummary> boards =
+                boardRepository.findLatestSummaries(BoardSummaryResponseDto.PREVIEW_LENGTH + 1, pageRequest);
+        if (!boards.hasContent()) {
+            return new BoardFeedResponseDto(List.of(), false);
+        }
+
+        // 게시물 수와 관계없이 댓글 수 집계 1번 + 최신 댓글 윈도 쿼리 1번
+        List<Long> boardIds = boards.map(BoardRepository.BoardSummary::getId).getContent();
+        Map<Long, Long> commentCounts = new HashMap<>();
+        commentRepository.countByBoardIds(boardIds)
+                .forEach(count -> commentCounts.put(count.getBoardId(), count.getCommentCount()));
+        Map<Long, List<CommentResponseDto>> latestComments = new HashMap<>();
+        if (limit > 0) {
+            commentRepository.findLatestByBoardIds(boardIds, limit)
+                    .forEach(comment -> latestComments.computeIfAbsent(comment.getBoardId(), id -> new ArrayList<>())
+                            .add(CommentResponseDto.from(comment)));
+        }
+
+        List<BoardFeedItemResponseDto> items = boards.getContent().stream()
+                .map(board -> new BoardFeedItemResponseDto(
+                        BoardSummaryResponseDto.from(board),
+                        commentCounts.getOrDefault(board.getId(), 0L),
+                        latestComments.getOrDefault(board.getId(), List.of())))
+                .toList();
+        return new BoardFeedResponseDto(items, boards.hasNext());
+    }
+
     @Override
     public BoardResponseDto createBoard(BoardRequestDto boardRequestDto) {
         Board board = boardRepository.save(boardRequestDto.toEntity());
+        boardExistenceFilter.registerCreated(board.getId());
+        eventPublisher.publishEvent(new DomainEvent.BoardCreated(board.getId()));
         return BoardResponseDto.from(board);
     }
 
     @Override
-    public BoardResponseDto updateBoard(Long boardId, BoardRequestDto boardRequestDto) {
+    public BoardResponseDto updateBoard(Long boardId, BoardRequestDto boardRequestDto, Long expectedVersion) {
         Board beforeBoard = getBoardByIdOrException(boardId);
+        checkVersion(expectedVersion, beforeBoard.getVersion());
+        // 영속 상태의 엔티티는 변경 감지로 변경된 컬럼만 UPDATE 된다 (@DynamicUpdate)
         beforeBoard.update(boardRequestDto.title(), boardRequestDto.content());
-        Board afterBoard = boardRepository.save(beforeBoard);
-        return BoardResponseDto.from(afterBoard);
+        // 버전 충돌은 flush 시점에 감지되므로 응답 전에 flush 하여 증가한 버전을 돌려준다
+        boardRepository.flush();
+        eventPublisher.publishEvent(new DomainEvent.BoardUpdated(boardId));
+        return BoardResponseDto.from(beforeBoard);
+    }
+
+    @Override
+    public void updateBoardInPlace(Long boardId, BoardRequestDto boardRequestDto, Long expectedVersion) {
+        // 수정 결과가 필요 없는 요청은 SELECT 없이 UPDATE 한 번으로 처리한다
+        int updated = boardRepository.updateContent(boardId, boardRequestDto.title(), boardRequestDto.content(),
+                LocalDateTime.now(), expectedVersion);
+        if (updated == 0) {
+            if (expectedVersion != null && boardRepository.existsById(boardId)) {
+                throw new BoardCommentException(ErrorCode.VERSION_MISMATCH);
+            }
+            throw new BoardCommentException(ErrorCode.BOARD_NOT_FOUND);
+        }
+        eventPublisher.publishEvent(new DomainEvent.BoardUpdated(boardId));
     }
 
     @Override
     public void deleteBoard(Long boardId) {
         Board board = getBoardByIdOrException(boardId);
+        // cascade로 함께 삭제되는 댓글도 이벤트를 남겨야 다른 인스턴스의 2차 캐시와 구독자에게 반영된다
+        List<Long> commentIds = board.getComments() == null ? List.of()
+                : board.getComments().stream().map(Comment::getId).toList();
         boardRepository.delete(board);
+        boardExistenceFilter.registerDeleted(boardId);
+        eventPublisher.publishEvent(new DomainEvent.BoardDeleted(boardId));
+        commentIds.forEach(commentId -> eventPublisher.publishEvent(new DomainEvent.CommentDeleted(commentId, boardId)));
+    }
+
+    private void checkBatchSize(List<Long> ids) {
+        if (ids.size() > BatchLookupResponseDto.MAX_IDS) {
+            throw new BoardCommentException(ErrorCode.BATCH_TOO_LARGE, String.valueOf(ids.size()));
+        }
+    }
+
+    private void checkVersion(Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new BoardCommentException(ErrorCode.VERSION_MISMATCH);
+        }
     }
 
     private Board getBoardByIdOrException(Long boardId) {
-        return boardRepository.findById(boardId).orElseThrow(() -> new EntityNotFoundException("board not found"));
+        if (boardExistenceFilter.definitelyMissing(boardId)) {
+            throw new BoardCommentException(ErrorCode.BOARD_NOT_FOUND);
+        }
+        return boardRepository.findById(boardId).orElseThrow(() -> {
+            boardExistenceFilter.markMissing(boardId);
+            return new BoardCommentException(ErrorCode.BOARD_NOT_FOUND);
+        });
     }
 }
@@ -1,15 +1,23 @@
 package com.brightcha.boardcomment.service;
 
+import com.brightcha.boardcomment.dto.BatchLookupResponseDto;
 import com.brightcha.boardcomment.dto.CommentRequestDto;
 import com.brightcha.boardcomment.dto.CommentResponseDto;
+import com.brightcha.boardcomment.dto.CommentThreadResponseDto;
 import com.brightcha.boardcomment.dto.CommentUpdateRequestDto;
-import com.brightcha.boardcomment.entity.Comment;
+import com.brightcha.boardcomment.dto.RootCommentSliceResponseDto;
 
 import java.util.List;
 
 public interface CommentService {
     List<CommentResponseDto> getComments(Long boardId);
+    BatchLookupResponseDto<CommentResponseDto> getCommentsByIds(List<Long> commentIds);
+    void validateBoardExists(Long boardId);
+    RootCommentSliceResponseDto getRootComments(Long boardId, int page, int size);
+    CommentThreadResponseDto getThread(Long commentId);
     CommentResponseDto createComment(Long boardId, CommentRequestDto commentRequestDto);
-    CommentResponseDto updateComment(Long commentId, CommentUpdateRequestDto commentUpdateRequestDto);
+    CommentResponseDto createReply(Long parentId, CommentRequestDto commentRequestDto);
+    CommentResponseDto updateComment(Long commentId, CommentUpdateRequestDto commentUpdateRequestDto, Long expectedVersion);
+    void updateCommentInPlace(Long commentId, CommentUpdateRequestDto commentUpdateRequestDto, Long expectedVersion);
     void deleteComment(Long commentId);
 }
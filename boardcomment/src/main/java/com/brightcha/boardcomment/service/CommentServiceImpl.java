@@ -1,19 +1,32 @@
 package com.brightcha.boardcomment.service;
 
+import com.brightcha.boardcomment.cache.BoardExistenceFilter;
+import com.brightcha.boardcomment.common.exception.BoardCommentException;
+import com.brightcha.boardcomment.common.exception.ErrorCode;
+import com.brightcha.boardcomment.dto.BatchLookupResponseDto;
 import com.brightcha.boardcomment.dto.CommentRequestDto;
 import com.brightcha.boardcomment.dto.CommentResponseDto;
+import com.brightcha.boardcomment.dto.CommentThreadResponseDto;
 import com.brightcha.boardcomment.dto.CommentUpdateRequestDto;
+import com.brightcha.boardcomment.dto.RootCommentResponseDto;
+import com.brightcha.boardcomment.dto.RootCommentSliceResponseDto;
 import com.brightcha.boardcomment.entity.Board;
 import com.brightcha.boardcomment.entity.Comment;
+import com.brightcha.boardcomment.event.DomainEvent;
 import com.brightcha.boardcomment.repository.BoardRepository;
 import com.brightcha.boardcomment.repository.CommentRepository;
-import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -21,10 +34,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
+    private final BoardExistenceFilter boardExistenceFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional(readOnly = true)
     public List<CommentResponseDto> getComments(Long boardId) {
 
         getBoardByIdOrException(boardId);
@@ -36,32 +54,175 @@ public class CommentServiceImpl implements CommentService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BatchLookupResponseDto<CommentResponseDto> getCommentsByIds(List<Long> commentIds) {
+        if (commentIds.size() > BatchLookupResponseDto.MAX_IDS) {
+            throw new BoardCommentException(ErrorCode.BATCH_TOO_LARGE, String.valueOf(commentIds.size()));
+        }
+        List<Long> distinctIds = commentIds.stream().distinct().toList();
+        Map<Long, CommentResponseDto> found = new HashMap<>();
+        if (!distinctIds.isEmpty()) {
+            for (Comment comment : commentRepository.findAllByIdInOrder(distinctIds)) {
+                if (comment != null) {
+                    found.put(comment.getId(), CommentResponseDto.from(comment));
+                }
+            }
+        }
+        return BatchLookupResponseDto.of(commentIds, found);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void validateBoardExists(Long boardId) {
+        getBoardByIdOrException(boardId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RootCommentSliceResponseDto getRootComments(Long boardId, int page, int size) {
+        getBoardByIdOrException(boardId);
+
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        Slice<Comment> roots = commentRepository.findAllByBoardIdAndParentIdIsNullOrderByIdAsc(boardId, pageRequest);
+        if (!roots.hasContent()) {
+            return new RootCommentSliceResponseDto(List.of(), false);
+        }
+
+        // 페이지 내 루트 댓글들의 답글 수를 한 번의 GROUP BY 쿼리로 집계
+        Map<Long, Long> replyCounts = new HashMap<>();
+        commentRepository.countRepliesByRootIds(boardId, roots.map(Comment::getId).getContent())
+                .forEach(count -> replyCounts.put(count.getRootId(), count.getReplyCount()));
+
+        List<RootCommentResponseDto> comments = roots.getContent().stream()
+                .map(root -> RootCommentResponseDto.of(root, replyCounts.getOrDefault(root.getId(), 0L)))
+                .toList();
+        return new RootCommentSliceResponseDto(comments, roots.hasNext());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentThreadResponseDto getThread(Long commentId) {
+        Comment top = getCommentByIdOrException(commentId);
+        requireThreadPath(top);
+        // 경로 prefix 검색 한 번으로 하위 트리 전체를 전위 순회 순서로 가져온다
+        List<Comment> subtree = commentRepository.findSubtree(top.getBoard().getId(), top.getRootId(), top.getPath());
+        return assembleThread(top, subtree);
+    }
+
     @Override
     public CommentResponseDto createComment(Long boardId, CommentRequestDto commentRequestDto) {
         Board board = getBoardByIdOrException(boardId);
         Comment comment = commentRepository.save(Comment.create(commentRequestDto.content(), commentRequestDto.username(), board));
+        comment.completePath();
+        eventPublisher.publishEvent(new DomainEvent.CommentCreated(comment.getId(), boardId));
         return CommentResponseDto.from(comment);
     }
 
     @Override
-    public CommentResponseDto updateComment(Long commentId, CommentUpdateRequestDto commentUpdateRequestDto) {
+    public CommentResponseDto createReply(Long parentId, CommentRequestDto commentRequestDto) {
+        Comment parent = getCommentByIdOrException(parentId);
+        if (parent.getDepth() + 1 > Comment.MAX_DEPTH) {
+            throw new BoardCommentException(ErrorCode.COMMENT_DEPTH_EXCEEDED, "max depth is " + Comment.MAX_DEPTH);
+        }
+        requireThreadPath(parent);
+        Comment reply = commentRepository.save(commentRequestDto.toReplyEntity(parent));
+        reply.completePath();
+        eventPublisher.publishEvent(new DomainEvent.CommentCreated(reply.getId(), reply.getBoard().getId()));
+        return CommentResponseDto.from(reply);
+    }
+
+    @Override
+    public CommentResponseDto updateComment(Long commentId, CommentUpdateRequestDto commentUpdateRequestDto, Long expectedVersion) {
         Comment beforeComment = getCommentByIdOrException(commentId);
+        if (expectedVersion != null && !expectedVersion.equals(beforeComment.getVersion())) {
+            throw new BoardCommentException(ErrorCode.VERSION_MISMATCH);
+        }
+        // 영속 상태의 엔티티는 변경 감지로 변경된 컬럼만 UPDATE 된다 (@DynamicUpdate)
         beforeComment.update(commentUpdateRequestDto.content());
-        Comment afterComment = commentRepository.save(beforeComment);
-        return CommentResponseDto.from(afterComment);
+        // 버전 충돌은 flush 시점에 감지되므로 응답 전에 flush 하여 증가한 버전을 돌려준다
+        commentRepository.flush();
+        eventPublisher.publishEvent(new DomainEvent.CommentUpdated(commentId, beforeComment.getBoard().getId()));
+        return CommentResponseDto.from(beforeComment);
+    }
+
+    @Override
+    public void updateCommentInPlace(Long commentId, CommentUpdateRequestDto commentUpdateRequestDto, Long expectedVersion) {
+        // 수정 결과가 필요 없는 요청은 SELECT 없이 UPDATE 한 번으로 처리한다.
+        // 게시물 id는 알 수 없으므로 이벤트에 null로 싣고, 게시물이 필요한 처리기는 댓글을 다시 읽어 정한다
+        int updated = commentRepository.updateContent(commentId, commentUpdateRequestDto.content(),
+                LocalDateTime.now(), expectedVersion);
+        if (updated == 0) {
+            // 실패한 경우에만 존재 여부를 확인해 삭제됐거나 없는 댓글과 버전 불일치를 구분한다
+            if (expectedVersion != null && commentRepository.existsById(commentId)) {
+                throw new BoardCommentException(ErrorCode.VERSION_MISMATCH);
+            }
+            throw new BoardCommentException(ErrorCode.COMMENT_NOT_FOUND);
+        }
+        eventPublisher.publishEvent(new DomainEvent.CommentUpdated(commentId, null));
     }
 
     @Override
     public void deleteComment(Long commentId) {
         Comment comment = getCommentByIdOrException(commentId);
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(new DomainEvent.CommentDeleted(commentId, comment.getBoard().getId()));
+    }
+
+    /**
+     * 경로가 없는 댓글(V2 마이그레이션 이전 행이 채워지지 않은 경우)은 하위 트리를 찾을 수 없고,
+     * 그 아래 만든 답글의 경로도 깨지므로 조용히 진행하지 않는다.
+     */
+    private void requireThreadPath(Comment comment) {
+        if (comment.getPath() == null || comment.getRootId() == null) {
+            throw new BoardCommentException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "comment " + comment.getId() + " has no thread path");
+        }
+    }
+
+    private CommentThreadResponseDto assembleThread(Comment top, List<Comment> subtree) {
+        CommentThreadResponseDto root = CommentThreadResponseDto.from(top);
+        Map<Long, CommentThreadResponseDto> nodes = new HashMap<>(subtree.size() * 2);
+        nodes.put(top.getId(), root);
+
+        for (Comment comment : subtree) {
+            if (comment.getId().equals(top.getId())) {
+                continue;
+            }
+            CommentThreadResponseDto node = CommentThreadResponseDto.from(comment);
+            nodes.put(comment.getId(), node);
+            findParentNode(comment, nodes, root).replies().add(node);
+        }
+        return root;
+    }
+
+    private CommentThreadResponseDto findParentNode(Comment comment, Map<Long, CommentThreadResponseDto> nodes,
+                                                    CommentThreadResponseDto root) {
+        CommentThreadResponseDto parent = nodes.get(comment.getParentId());
+        if (parent != null) {
+            return parent;
+        }
+        // 중간 댓글이 삭제된 경우 살아 있는 가장 가까운 조상에 붙인다
+        for (long ancestorId : Comment.ancestorIds(comment.getPath())) {
+            CommentThreadResponseDto ancestor = nodes.get(ancestorId);
+            if (ancestor != null) {
+                return ancestor;
+            }
+        }
+        return root;
     }
 
     private Board getBoardByIdOrException(Long boardId) {
-        return boardRepository.findById(boardId).orElseThrow(() -> new EntityNotFoundException("board not found"));
+        if (boardExistenceFilter.definitelyMissing(boardId)) {
+            throw new BoardCommentException(ErrorCode.BOARD_NOT_FOUND);
+        }
+        return boardRepository.findById(boardId).orElseThrow(() -> {
+            boardExistenceFilter.markMissing(boardId);
+            return new BoardCommentException(ErrorCode.BOARD_NOT_FOUND);
+        });
     }
 
     private Comment getCommentByIdOrException(Long commentId) {
-        return commentRepository.findById(commentId).orElseThrow(() -> new EntityNotFoundException("comment not found"));
+        return commentRepository.findById(commentId).orElseThrow(() -> new BoardCommentException(ErrorCode.COMMENT_NOT_FOUND));
     }
 }
@@ -0,0 +1,316 @@
+package com.brightcha.boardcomment.stream;
+
+import com.brightcha.boardcomment.dto.CommentResponseDto;
+import com.brightcha.boardcomment.entity.Comment;
+import com.brightcha.boardcomment.event.DomainEvent;
+import com.brightcha.boardcomment.event.DomainEventHandler;
+import com.brightcha.boardcomment.repository.CommentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시물별 댓글 변경을 SSE 구독자에게 전달하는 프로세스 내 fan-out 허브.
+ * <p>
+ * 구독은 비동기 서블릿 요청(SseEmitter)이라 연결당 스레드를 점유하지 않고, 전송은 소수의 fan-out 스레드가 맡는다.
+ * 이벤트 id는 "인스턴스 epoch-순번" 형식이며 게시물마다 최근 이벤트를 보관해 Last-Event-ID 이후의 이벤트를 다시 보내준다.
+ * 다른 인스턴스나 재시작 전에 받은 id는 이 인스턴스의 로그와 비교할 수 없으므로 reset 이벤트로 다시 조회하게 한다.
+ * <p>
+ * 구독자마다 크기가 제한된 큐를 두고 한 번에 한 작업만 비우므로 한 구독자에게는 id 순서대로 전달된다.
+ * 재전송도 같은 큐로 들어가며, 게시물 로그의 compute 안에서 재전송 이벤트를 넣고 구독자를 등록하므로 실시간 이벤트가 앞지르거나 겹치지 않는다.
+ * 구독자 집합과 게시물 로그는 같은 키의 compute로만 만들고 지우므로, 정리 작업이 방금 등록된 구독자나 로그를 떼어내지 않는다.
+ * 큐가 넘친 느린 구독자는 끊어서 fan-out 스레드를 계속 붙잡지 않게 하고, 클라이언트는 Last-Event-ID로 재연결해 따라잡는다.
+ */
+@Slf4j
+@Component
+public class CommentStreamHub implements DomainEventHandler {
+
+    static final String RESET_EVENT = "reset";
+    // 한 구독자가 fan-out 스레드를 연속으로 쓰는 최대 전송 수 (다른 구독자와 번갈아 쓰도록)
+    private static final int DRAIN_BATCH = 64;
+
+    private final CommentRepository commentRepository;
+    private final CommentStreamProperties properties;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, BoardLog> recentEvents = new ConcurrentHashMap<>();
+    // 인스턴스(프로세스)마다 다른 값. 순번은 이 epoch 안에서만 비교할 수 있다
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, Character.MAX_RADIX);
+    private final AtomicLong sequence = new AtomicLong();
+    private final ExecutorService fanOut;
+
+    public CommentStreamHub(CommentRepository commentRepository, CommentStreamProperties properties) {
+        this.commentRepository = commentRepository;
+        this.properties = properties;
+        this.fanOut = Executors.newFixedThreadPool(properties.fanOutThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "comment-stream-fan-out");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(Long boardId, String lastEventId) {
+        return subscribe(boardId, lastEventId, new SseEmitter(properties.timeout().toMillis()));
+    }
+
+    SseEmitter subscribe(Long boardId, String lastEventId, SseEmitter emitter) {
+        Long lastSequence = localSequence(lastEventId);
+        Subscriber subscriber = new Subscriber(boardId, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        // publish()와 같은 키의 compute 안에서 재전송분을 큐에 넣고 등록해야 그 사이의 실시간 이벤트가 빠지거나 앞서지 않는다
+        recentEvents.compute(boardId, (id, boardLog) -> {
+            if (boardLog == null) {
+                boardLog = new BoardLog(sequence.get());
+            }
+            boardLog.touch();
+            if (lastEventId != null) {
+                if (lastSequence != null && boardLog.covers(lastSequence)) {
+                    boardLog.after(lastSequence).forEach(event -> subscriber.offer(event.toSse(epoch)));
+                } else {
+                    // 다른 인스턴스의 id이거나 보관 범위를 벗어난 재연결: 클라이언트가 목록을 다시 조회하도록 알린다
+                    subscriber.offer(SseEmitter.event().name(RESET_EVENT).data(lastEventId));
+                }
+            }
+            subscribers.compute(id, (key, boardSubscribers) -> {
+                Set<Subscriber> result = boardSubscribers == null ? ConcurrentHashMap.newKeySet() : boardSubscribers;
+                // 등록 전에 이미 끊긴 연결은 넣지 않는다 (등록 중에 끊기면 close()가 이 compute 뒤에 지운다)
+                if (!subscriber.closed) {
+                    result.add(subscriber);
+                }
+                return result.isEmpty() ? null : result;
+            });
+            return boardLog;
+        });
+        return emitter;
+    }
+
+    @Override
+    public void handle(List<DomainEvent> events) {
+        List<Long> changedIds = new ArrayList<>();
+        for (DomainEvent event : events) {
+            if (event instanceof DomainEvent.CommentCreated created) {
+                changedIds.add(created.commentId());
+            } else if (event instanceof DomainEvent.CommentUpdated updated) {
+                changedIds.add(updated.commentId());
+            }
+        }
+        // 생성/수정된 댓글은 배치당 한 번의 IN 쿼리로 읽는다
+        Map<Long, Comment> changed = changedIds.isEmpty() ? Map.of() : commentRepository.findAllById(changedIds).stream()
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+
+        for (DomainEvent event : events) {
+            if (event instanceof DomainEvent.CommentCreated created) {
+                publishChanged("created", changed.get(created.commentId()));
+            } else if (event instanceof DomainEvent.CommentUpdated updated) {
+                publishChanged("updated", changed.get(updated.commentId()));
+            } else if (event instanceof DomainEvent.CommentDeleted deleted) {
+                publish(deleted.boardId(), "deleted", new DeletedComment(deleted.commentId(), deleted.boardId()));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.comment-stream.heartbeat-interval:20s}")
+    public void heartbeat() {
+        subscribers.forEach((boardId, boardSubscribers) ->
+                boardSubscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event().comment("ping"))));
+        // 구독자가 떠난 지 재연결 보관 시간이 지난 게시물의 로그는 정리한다 (빈 구독자 집합은 close()가 지운다).
+        // subscribe()와 같은 키의 compute로 지워야 방금 구독한 게시물의 로그를 떼어내지 않는다
+        long expiredBefore = System.nanoTime() - properties.replayRetention().toNanos();
+        for (Long boardId : recentEvents.keySet()) {
+            recentEvents.computeIfPresent(boardId, (id, boardLog) ->
+                    !subscribers.containsKey(id) && boardLog.lastTouched() - expiredBefore < 0 ? null : boardLog);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fanOut.shutdownNow();
+        subscribers.values().forEach(boardSubscribers -> boardSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void publishChanged(String name, Comment comment) {
+        // 커밋 이후 다시 삭제된 댓글은 조회되지 않으므로 건너뛴다
+        if (comment != null) {
+            publish(comment.getBoard().getId(), name, CommentResponseDto.from(comment));
+        }
+    }
+
+    private void publish(Long boardId, String name, Object data) {
+        if (!recentEvents.containsKey(boardId)) {
+            // 최근 구독자가 없던 게시물의 이벤트는 보관하지 않는다 (구독하면 로그가 먼저 만들어진다)
+            return;
+        }
+        // 큐에 넣기만 하므로 compute의 잠금을 오래 잡지 않는다
+        recentEvents.computeIfPresent(boardId, (id, boardLog) -> {
+            StreamEvent event = new StreamEvent(sequence.incrementAndGet(), name, data);
+            boardLog.append(event, properties.replaySize());
+            Set<Subscriber> boardSubscribers = subscribers.get(id);
+            if (boardSubscribers != null) {
+                boardSubscribers.forEach(subscriber -> subscriber.offer(event.toSse(epoch)));
+            }
+            return boardLog;
+        });
+    }
+
+    /**
+     * 이 인스턴스가 발급한 Last-Event-ID의 순번. 다른 epoch이거나 형식이 다르면 null.
+     */
+    private Long localSequence(String lastEventId) {
+        String prefix = epoch + "-";
+        if (lastEventId == null || !lastEventId.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 한 SSE 연결. 큐에 쌓인 이벤트를 fan-out 스레드에서 한 번에 한 작업만 순서대로 보낸다.
+     */
+    private final class Subscriber {
+        private final Long boardId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(Long boardId, SseEmitter emitter) {
+            this.boardId = boardId;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (queued.incrementAndGet() > properties.subscriberQueueSize()) {
+                // 이벤트를 조용히 버리면 id 사이에 구멍이 생기므로 연결을 끊어 재연결(Last-Event-ID)로 따라잡게 한다
+                log.debug("Comment stream subscriber fell behind, closing");
+                close();
+                emitter.complete();
+                return;
+            }
+            queue.add(event);
+            scheduleDrain();
+        }
+
+        void close() {
+            closed = true;
+            // 마지막 구독자가 떠나면 집합도 같은 compute 안에서 지워 subscribe()의 등록과 겹치지 않게 한다
+            subscribers.computeIfPresent(boardId, (id, boardSubscribers) -> {
+                boardSubscribers.remove(this);
+                return boardSubscribers.isEmpty() ? null : boardSubscribers;
+            });
+            queue.clear();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    fanOut.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                int sent = 0;
+                while (!closed && sent < DRAIN_BATCH && (event = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    emitter.send(event);
+                    sent++;
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+                log.debug("Dropping comment stream subscriber: {}", e.toString());
+            } finally {
+                draining.set(false);
+            }
+            // 비우는 중에 들어온 이벤트, 또는 DRAIN_BATCH를 넘어 남은 이벤트
+            if (!closed && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    record StreamEvent(long id, String name, Object data) {
+        SseEmitter.SseEventBuilder toSse(String epoch) {
+            return SseEmitter.event().id(epoch + "-" + id).name(name).data(data);
+        }
+    }
+
+    record DeletedComment(Long id, Long boardId) {
+    }
+
+    private static final class BoardLog {
+        private final Deque<StreamEvent> events = new ArrayDeque<>();
+        // 이 id 이하의 이벤트는 보관하고 있지 않다 (생성 이전 또는 용량 초과로 제거됨)
+        private long evictedUpTo;
+        private volatile long lastTouched = System.nanoTime();
+
+        private BoardLog(long createdAt) {
+            this.evictedUpTo = createdAt;
+        }
+
+        void touch() {
+            lastTouched = System.nanoTime();
+        }
+
+        long lastTouched() {
+            return lastTouched;
+        }
+
+        synchronized void append(StreamEvent event, int capacity) {
+            events.addLast(event);
+            while (events.size() > capacity) {
+                evictedUpTo = events.removeFirst().id();
+            }
+            touch();
+        }
+
+        synchronized boolean covers(long lastEventId) {
+            return lastEventId >= evictedUpTo;
+        }
+
+        synchronized List<StreamEvent> after(long lastEventId) {
+            return events.stream()
+                    .filter(event -> event.id() > lastEventId)
+                    .toList();
+        }
+    }
+}
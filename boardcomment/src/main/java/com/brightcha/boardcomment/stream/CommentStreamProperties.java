@@ -0,0 +1,16 @@
+package com.brightcha.boardcomment.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.comment-stream")
+public record CommentStreamProperties(
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("256") int replaySize,
+        @DefaultValue("5m") Duration replayRetention,
+        @DefaultValue("4") int fanOutThreads,
+        @DefaultValue("1024") int subscriberQueueSize
+) {
+}
@@ -0,0 +1,27 @@
+-- 이 작업 이전에 ddl-auto=update 로 만들어지던 스키마. 이미 그렇게 만들어진 DB는 baseline-on-migrate로 이 버전을 건너뛰고
+-- V2부터 적용된다. 이후 변경은 모두 다음 버전에 추가한다 (이 파일을 고치면 기존 DB와 달라진다).
+
+CREATE TABLE boards
+(
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    title      VARCHAR(255) NOT NULL,
+    content    VARCHAR(255) NOT NULL,
+    username   VARCHAR(255) NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comments
+(
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    content    VARCHAR(255) NOT NULL,
+    username   VARCHAR(255) NOT NULL,
+    board_id   BIGINT       NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_board FOREIGN KEY (board_id) REFERENCES boards (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,15 @@
+-- 대댓글: 부모/루트 id, 깊이, 구체화 경로 (Comment.encodeSegment 참고)
+ALTER TABLE comments
+    ADD COLUMN parent_id BIGINT,
+    ADD COLUMN root_id   BIGINT,
+    ADD COLUMN depth     INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN path      VARCHAR(297),
+    ADD INDEX idx_comments_board_parent (board_id, parent_id),
+    ADD INDEX idx_comments_root_path (root_id, path);
+
+-- 기존 댓글은 모두 최상위 댓글이다. 경로는 Comment.encodeSegment와 같이 소문자 base36 8자리 + '/'
+UPDATE comments
+SET root_id = id,
+    depth   = 0,
+    path    = CONCAT(LPAD(LOWER(CONV(id, 10, 36)), GREATEST(8, LENGTH(CONV(id, 10, 36))), '0'), '/')
+WHERE path IS NULL;
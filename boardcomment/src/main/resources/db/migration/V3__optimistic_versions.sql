@@ -0,0 +1,6 @@
+-- 낙관적 잠금 버전 (ETag / If-Match). 기존 행은 0부터 시작한다
+ALTER TABLE boards
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE comments
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
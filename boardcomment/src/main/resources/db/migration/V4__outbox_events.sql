@@ -0,0 +1,11 @@
+-- 커밋 후 처리(SSE, 캐시 무효화 등)를 위한 outbox. 처리되지 않은 이벤트는 relay가 다시 전달한다
+CREATE TABLE outbox_events
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    event_type   VARCHAR(255) NOT NULL,
+    payload      LONGTEXT     NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    processed_at DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_outbox_events_processed (processed_at, id)
+) ENGINE = InnoDB;
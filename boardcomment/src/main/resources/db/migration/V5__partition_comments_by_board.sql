@@ -0,0 +1,26 @@
+-- comments를 board_id 기준 HASH 파티션으로 나눈다.
+-- 게시물 단위 조회(board_id = ? / IN)는 해당 파티션만 읽는다.
+-- id만으로 찾는 조회/수정/soft delete(findById, updateContent, 엔티티 flush, @SQLDelete)는 board_id가 없어 16개 파티션을 모두 확인한다.
+-- 효과는 아직 측정하지 않았다 (benchmark/comment-partitioning.sql).
+-- 테이블 전체를 다시 쓰는 작업이므로 큰 운영 테이블은 점검 시간에 적용한다.
+
+-- 파티션 테이블은 외래 키를 가질 수 없다.
+-- ddl-auto 로 만들어진 DB는 제약 이름이 자동 생성되어 있으므로 이름을 찾아서 지운다.
+SET @fk_name = (SELECT constraint_name
+                FROM information_schema.referential_constraints
+                WHERE constraint_schema = DATABASE()
+                  AND table_name = 'comments'
+                  AND referenced_table_name = 'boards'
+                LIMIT 1);
+SET @drop_fk = IF(@fk_name IS NULL, 'DO 0', CONCAT('ALTER TABLE comments DROP FOREIGN KEY ', @fk_name));
+PREPARE stmt FROM @drop_fk;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 모든 유니크 키(기본 키 포함)는 파티션 키를 포함해야 한다. id는 여전히 AUTO_INCREMENT로 유일하다.
+ALTER TABLE comments
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, board_id);
+
+ALTER TABLE comments
+    PARTITION BY HASH (board_id) PARTITIONS 16;
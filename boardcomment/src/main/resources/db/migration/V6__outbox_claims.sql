@@ -0,0 +1,5 @@
+-- 여러 인스턴스의 outbox relay가 같은 이벤트를 중복 전달하지 않도록 점유 시각을,
+-- 일부 처리기만 실패한 이벤트는 그 처리기에만 재전달하도록 남은 처리기 이름을 기록한다.
+ALTER TABLE outbox_events
+    ADD COLUMN claimed_until    DATETIME(6),
+    ADD COLUMN pending_handlers VARCHAR(255);
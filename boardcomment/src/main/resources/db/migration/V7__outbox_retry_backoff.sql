@@ -0,0 +1,5 @@
+-- 계속 실패하는 처리기가 relay 주기마다 재시도되지 않도록 시도 횟수를 세어 점점 늦게 재전달하고,
+-- 최대 횟수를 넘긴 이벤트는 보류(parked_at)해 relay 대상에서 뺀다. 보류된 이벤트는 자동 삭제되지 않는다.
+ALTER TABLE outbox_events
+    ADD COLUMN attempts  INT NOT NULL DEFAULT 0,
+    ADD COLUMN parked_at DATETIME(6);
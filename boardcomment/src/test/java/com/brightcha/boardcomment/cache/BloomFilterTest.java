@@ -0,0 +1,35 @@
+package com.brightcha.boardcomment.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Bloom filter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판정 (false negative 없음)")
+    void noFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+        LongStream.rangeClosed(1, 10_000).forEach(filter::put);
+
+        assertThat(LongStream.rangeClosed(1, 10_000).allMatch(filter::mightContain)).isTrue();
+    }
+
+    @Test
+    @DisplayName("오탐률이 설정값 근처로 유지됨")
+    void falsePositiveRateIsBounded() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        LongStream.rangeClosed(1, 10_000).forEach(filter::put);
+
+        long falsePositives = LongStream.rangeClosed(1_000_001, 1_100_000)
+                .filter(filter::mightContain)
+                .count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+}
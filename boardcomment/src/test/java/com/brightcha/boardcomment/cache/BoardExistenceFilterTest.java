@@ -0,0 +1,134 @@
+package com.brightcha.boardcomment.cache;
+
+import com.brightcha.boardcomment.cache.invalidation.InvalidationProperties;
+import com.brightcha.boardcomment.repository.BoardRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("게시물 존재 필터 재구성 테스트")
+class BoardExistenceFilterTest {
+
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final BoardExistenceFilter filter = filter(true, InvalidationProperties.Transport.LOOPBACK);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("재구성 조회가 지나간 뒤 커밋된 게시물도 필터에 포함")
+    void createdDuringRebuildIsNotLost() {
+        // given: 재구성 조회 도중 다른 요청이 게시물 99를 만들고 커밋 (조회 결과에는 없음)
+        when(boardRepository.findIdsAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            filter.registerCreated(99L);
+            return List.of(1L, 2L);
+        });
+
+        // when
+        filter.rebuild();
+
+        // then
+        assertThat(filter.definitelyMissing(1L)).isFalse();
+        assertThat(filter.definitelyMissing(99L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재구성 시작 전에 생성되고 조회 후에 커밋된 게시물도 필터에 포함")
+    void createdBeforeRebuildAndCommittedAfterIsNotLost() {
+        // given: 기동 직후(필터 없음) 게시물 99의 트랜잭션이 아직 커밋되지 않음
+        TransactionSynchronizationManager.initSynchronization();
+        filter.registerCreated(99L);
+        when(boardRepository.findIdsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+
+        // when: 커밋되지 않은 행을 못 본 채 재구성이 끝나고, 그 뒤 커밋
+        filter.rebuild();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(filter.definitelyMissing(99L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("실행 중에 들어온 재구성 요청은 겹치지 않고 한 번으로 합쳐져 뒤이어 실행")
+    void rebuildsAreSingleFlight() throws InterruptedException {
+        // given: 첫 재구성이 조회 중에 멈춰 있음
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        AtomicInteger passes = new AtomicInteger();
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        when(boardRepository.findIdsAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                if (passes.incrementAndGet() == 1) {
+                    firstStarted.countDown();
+                    releaseFirst.await(5, TimeUnit.SECONDS);
+                }
+                return List.of(1L);
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        });
+        filter.rebuildInBackground();
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 실행 중에 세 번 더 요청
+        filter.rebuildInBackground();
+        filter.rebuildInBackground();
+        filter.rebuild();
+        releaseFirst.countDown();
+
+        // then: 첫 실행 + 합쳐진 한 번
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (passes.get() < 2 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        TimeUnit.MILLISECONDS.sleep(50);
+        assertThat(passes).hasValue(2);
+        assertThat(maxConcurrent).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("켜짐 여부를 지정하지 않으면 loopback 전송에서는 다른 인스턴스의 게시물을 없다고 판정하지 않음")
+    void disabledByDefaultWithLoopbackTransport() {
+        // given
+        when(boardRepository.findIdsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(1L));
+        BoardExistenceFilter loopback = filter(null, InvalidationProperties.Transport.LOOPBACK);
+        BoardExistenceFilter multicast = filter(null, InvalidationProperties.Transport.MULTICAST);
+
+        // when
+        loopback.rebuild();
+        multicast.rebuild();
+
+        // then: 재구성 후 다른 인스턴스에서 생성된 게시물 2
+        assertThat(loopback.definitelyMissing(2L)).isFalse();
+        assertThat(multicast.definitelyMissing(2L)).isTrue();
+    }
+
+    private BoardExistenceFilter filter(Boolean enabled, InvalidationProperties.Transport transport) {
+        return new BoardExistenceFilter(boardRepository,
+                new BoardExistenceFilterProperties(enabled, 10_000, 0.01, Duration.ofSeconds(5), 1_000, 100),
+                new InvalidationProperties(transport, Duration.ofMillis(50), Duration.ofSeconds(1), null));
+    }
+}
@@ -0,0 +1,279 @@
+package com.brightcha.boardcomment.cache.invalidation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("캐시 무효화 버스 테스트")
+class InvalidationBusTest {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBusTest.class);
+    private static final Duration HEARTBEAT = Duration.ofSeconds(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final LoopbackInvalidationTransport.Network network = new LoopbackInvalidationTransport.Network();
+    private final List<InvalidationBus> buses = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        buses.forEach(InvalidationBus::stop);
+    }
+
+    @Test
+    @DisplayName("flush 전에 반복된 같은 키의 무효화는 하나로 합쳐서 전송")
+    void coalescesRepeatedKeys() {
+        // given
+        InvalidationBus sender = manualBus(new LoopbackInvalidationTransport(network), new RecordingListener());
+        RecordingListener receiver = new RecordingListener();
+        manualBus(new LoopbackInvalidationTransport(network), receiver);
+
+        // when: 같은 게시물 1000번, 댓글 1번
+        for (int i = 0; i < 1000; i++) {
+            sender.invalidate(InvalidationKey.board(1L));
+        }
+        sender.invalidate(InvalidationKey.comment(2L));
+        sender.flush();
+
+        // then
+        assertThat(receiver.messages).hasSize(1);
+        assertThat(receiver.messages.get(0))
+                .containsExactlyInAnyOrder(InvalidationKey.board(1L), InvalidationKey.comment(2L));
+        assertThat(receiver.gaps).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("한 메시지에 담을 수 없는 무효화는 나눠 보내고 유실로 오인하지 않음")
+    void splitsLargeBatches() {
+        // given
+        InvalidationBus sender = manualBus(new LoopbackInvalidationTransport(network), new RecordingListener());
+        RecordingListener receiver = new RecordingListener();
+        manualBus(new LoopbackInvalidationTransport(network), receiver);
+
+        // when
+        for (long id = 1; id <= 1000; id++) {
+            sender.invalidate(InvalidationKey.comment(id));
+        }
+        sender.flush();
+
+        // then
+        assertThat(receiver.messages).hasSizeGreaterThan(1);
+        assertThat(receiver.messages.stream().mapToInt(Collection::size).sum()).isEqualTo(1000);
+        assertThat(receiver.gaps).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("중간 메시지가 유실되면 다음 메시지를 받을 때 캐시 전체 무효화")
+    void detectsLostMessageOnNextMessage() {
+        // given
+        LossyTransport lossy = new LossyTransport(new LoopbackInvalidationTransport(network));
+        InvalidationBus sender = manualBus(lossy, new RecordingListener());
+        RecordingListener receiver = new RecordingListener();
+        manualBus(new LoopbackInvalidationTransport(network), receiver);
+        sender.invalidate(InvalidationKey.board(1L));
+        sender.flush();
+
+        // when: 두 번째 메시지 유실 후 세 번째 전송
+        lossy.dropNext.set(1);
+        sender.invalidate(InvalidationKey.board(2L));
+        sender.flush();
+        sender.invalidate(InvalidationKey.board(3L));
+        sender.flush();
+
+        // then
+        assertThat(receiver.gaps).hasValue(1);
+        assertThat(receiver.messages).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("마지막 메시지가 유실돼도 heartbeat 주기 안에 감지")
+    void detectsLostTrailingMessageWithinHeartbeat() {
+        // given
+        LossyTransport lossy = new LossyTransport(new LoopbackInvalidationTransport(network));
+        InvalidationBus sender = manualBus(lossy, new RecordingListener());
+        RecordingListener receiver = new RecordingListener();
+        manualBus(new LoopbackInvalidationTransport(network), receiver);
+        sender.invalidate(InvalidationKey.board(1L));
+        sender.flush();
+
+        // when: 마지막 메시지 유실 후 이후 변경 없음
+        lossy.dropNext.set(1);
+        sender.invalidate(InvalidationKey.board(2L));
+        sender.tick();
+
+        // then: heartbeat 주기 전에는 모름
+        clock.addAndGet(HEARTBEAT.toNanos() - 1);
+        sender.tick();
+        assertThat(receiver.gaps).hasValue(0);
+
+        // then: heartbeat 주기가 지나면 감지
+        clock.addAndGet(1);
+        sender.tick();
+        assertThat(receiver.gaps).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("유실 없는 heartbeat와 자신이 보낸 메시지는 무시")
+    void ignoresHeartbeatsInSequenceAndOwnMessages() {
+        // given: 자기 메시지도 되돌려 받는 전송
+        RecordingListener senderListener = new RecordingListener();
+        LoopbackInvalidationTransport echo = new LoopbackInvalidationTransport(network) {
+            private Consumer<ByteBuffer> self;
+
+            @Override
+            public void start(Consumer<ByteBuffer> receiver) {
+                super.start(receiver);
+                self = receiver;
+            }
+
+            @Override
+            public void send(ByteBuffer message) {
+                self.accept(message.asReadOnlyBuffer());
+                super.send(message);
+            }
+        };
+        InvalidationBus sender = manualBus(echo, senderListener);
+        RecordingListener receiver = new RecordingListener();
+        manualBus(new LoopbackInvalidationTransport(network), receiver);
+
+        // when
+        sender.invalidate(InvalidationKey.board(1L));
+        sender.flush();
+        for (int i = 0; i < 3; i++) {
+            clock.addAndGet(HEARTBEAT.toNanos());
+            sender.tick();
+        }
+
+        // then
+        assertThat(senderListener.messages).isEmpty();
+        assertThat(receiver.messages).hasSize(1);
+        assertThat(receiver.gaps).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("실행 중인 버스 사이의 무효화 지연은 flush 주기 수준으로 제한")
+    void boundedStaleness() throws InterruptedException {
+        // given
+        Duration flushInterval = Duration.ofMillis(20);
+        InvalidationProperties properties = properties(flushInterval);
+        Map<Long, Long> receivedAt = new ConcurrentHashMap<>();
+        InvalidationListener listener = new InvalidationListener() {
+            @Override
+            public void onInvalidate(Collection<InvalidationKey> keys) {
+                long now = System.nanoTime();
+                keys.forEach(key -> receivedAt.putIfAbsent(key.id(), now));
+            }
+
+            @Override
+            public void onGap() {
+            }
+        };
+        InvalidationBus sender = new InvalidationBus(
+                new LoopbackInvalidationTransport(network), List.of(), properties);
+        InvalidationBus receiver = new InvalidationBus(
+                new LoopbackInvalidationTransport(network), List.of(listener), properties);
+        buses.add(sender);
+        buses.add(receiver);
+        sender.start();
+        receiver.start();
+
+        // when
+        int count = 50;
+        long[] sentAt = new long[count];
+        for (int i = 0; i < count; i++) {
+            sentAt[i] = System.nanoTime();
+            sender.invalidate(InvalidationKey.board(i));
+            TimeUnit.MILLISECONDS.sleep(3);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (receivedAt.size() < count && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+
+        // then: 스케줄링 지연을 감안한 여유를 두고 확인
+        assertThat(receivedAt).hasSize(count);
+        long maxLag = 0;
+        for (int i = 0; i < count; i++) {
+            maxLag = Math.max(maxLag, receivedAt.get((long) i) - sentAt[i]);
+        }
+        log.info("max invalidation lag {}ms with flush interval {}ms",
+                TimeUnit.NANOSECONDS.toMillis(maxLag), flushInterval.toMillis());
+        assertThat(maxLag).isLessThan(flushInterval.plusMillis(200).toNanos());
+    }
+
+    private InvalidationBus manualBus(InvalidationTransport transport, InvalidationListener listener) {
+        // flush 주기를 길게 잡아 스케줄러 대신 테스트가 직접 flush/tick 한다
+        InvalidationBus bus = new InvalidationBus(transport, List.of(listener), properties(Duration.ofHours(1)), clock::get);
+        bus.start();
+        buses.add(bus);
+        return bus;
+    }
+
+    private static InvalidationProperties properties(Duration flushInterval) {
+        return new InvalidationProperties(InvalidationProperties.Transport.LOOPBACK, flushInterval, HEARTBEAT,
+                new InvalidationProperties.Multicast("239.255.27.1", 45700, null, 1));
+    }
+
+    private static class RecordingListener implements InvalidationListener {
+        private final List<List<InvalidationKey>> messages = new CopyOnWriteArrayList<>();
+        private final AtomicInteger gaps = new AtomicInteger();
+
+        @Override
+        public void onInvalidate(Collection<InvalidationKey> keys) {
+            messages.add(List.copyOf(keys));
+        }
+
+        @Override
+        public void onGap() {
+            gaps.incrementAndGet();
+        }
+    }
+
+    private static class LossyTransport implements InvalidationTransport {
+        private final InvalidationTransport delegate;
+        private final AtomicInteger dropNext = new AtomicInteger();
+
+        LossyTransport(InvalidationTransport delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void start(Consumer<ByteBuffer> receiver) {
+            delegate.start(receiver);
+        }
+
+        @Override
+        public void send(ByteBuffer message) {
+            if (dropNext.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                return;
+            }
+            delegate.send(message);
+        }
+
+        @Override
+        public int maxMessageSize() {
+            return delegate.maxMessageSize();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
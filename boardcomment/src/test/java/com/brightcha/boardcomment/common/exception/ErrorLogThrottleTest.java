@@ -0,0 +1,40 @@
+package com.brightcha.boardcomment.common.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("에러 로그 제한 테스트")
+class ErrorLogThrottleTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    @DisplayName("구간당 허용 개수를 넘는 로그는 버려지고, 다음 구간에 버려진 개수를 알려줌")
+    void suppressesAndReportsInNextWindow() {
+        // given: 1초당 2개까지 허용
+        ErrorLogThrottle throttle = new ErrorLogThrottle(2, Duration.ofSeconds(1));
+
+        // when & then: 같은 구간의 세 번째부터는 버려짐
+        assertThat(throttle.tryAcquire("BOARD_NOT_FOUND", 0)).isZero();
+        assertThat(throttle.tryAcquire("BOARD_NOT_FOUND", 10)).isZero();
+        assertThat(throttle.tryAcquire("BOARD_NOT_FOUND", 20)).isEqualTo(ErrorLogThrottle.SUPPRESSED);
+        assertThat(throttle.tryAcquire("BOARD_NOT_FOUND", 30)).isEqualTo(ErrorLogThrottle.SUPPRESSED);
+
+        // then: 다음 구간의 첫 로그에 버려진 개수 포함
+        assertThat(throttle.tryAcquire("BOARD_NOT_FOUND", SECOND + 1)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("키마다 독립적으로 제한")
+    void limitsPerKey() {
+        ErrorLogThrottle throttle = new ErrorLogThrottle(1, Duration.ofSeconds(1));
+
+        assertThat(throttle.tryAcquire("A", 0)).isZero();
+        assertThat(throttle.tryAcquire("B", 0)).isZero();
+        assertThat(throttle.tryAcquire("A", 1)).isEqualTo(ErrorLogThrottle.SUPPRESSED);
+    }
+}
@@ -0,0 +1,37 @@
+package com.brightcha.boardcomment.common.web;
+
+import com.brightcha.boardcomment.common.exception.BoardCommentException;
+import com.brightcha.boardcomment.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ETag / If-Match 변환 테스트")
+class ETagsTest {
+
+    @Test
+    @DisplayName("강한 태그는 버전으로, 없거나 *이면 검사하지 않음")
+    void parsesStrongTags() {
+        assertThat(ETags.parseIfMatch(ETags.of(3L))).isEqualTo(3L);
+        assertThat(ETags.parseIfMatch(null)).isNull();
+        assertThat(ETags.parseIfMatch("*")).isNull();
+    }
+
+    @Test
+    @DisplayName("약한 태그는 If-Match와 일치하지 않아 412")
+    void weakTagNeverMatches() {
+        assertThatThrownBy(() -> ETags.parseIfMatch("W/\"3\""))
+                .isInstanceOf(BoardCommentException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.VERSION_MISMATCH);
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 태그는 400")
+    void rejectsMalformedTag() {
+        assertThatThrownBy(() -> ETags.parseIfMatch("\"abc\""))
+                .isInstanceOf(BoardCommentException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_IF_MATCH);
+    }
+}
@@ -0,0 +1,54 @@
+package com.brightcha.boardcomment.config;
+
+import com.brightcha.boardcomment.common.response.Response;
+import com.brightcha.boardcomment.dto.CommentResponseDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("바이너리 응답 형식 테스트")
+class WireFormatConfigTest {
+
+    private static final Logger log = LoggerFactory.getLogger(WireFormatConfigTest.class);
+    private static final TypeReference<Response<List<CommentResponseDto>>> COMMENTS = new TypeReference<>() {
+    };
+
+    private final WireFormatConfig config = new WireFormatConfig();
+
+    @Test
+    @DisplayName("CBOR/Smile은 JSON과 같은 값으로 왕복하고 더 작게 인코딩")
+    void binaryFormatsRoundTripSmallerThanJson() throws Exception {
+        // given: 같은 빌더 설정으로 만든 JSON, CBOR, Smile 매퍼와 댓글 목록 응답
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper cbor = config.cborHttpMessageConverter(new Jackson2ObjectMapperBuilder()).getObjectMapper();
+        ObjectMapper smile = config.smileHttpMessageConverter(new Jackson2ObjectMapperBuilder()).getObjectMapper();
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        Response<List<CommentResponseDto>> response = Response.success(LongStream.rangeClosed(1, 100)
+                .mapToObj(id -> new CommentResponseDto(id, 1L, id > 1 ? id - 1 : null, (int) (id % 4),
+                        "댓글 내용 " + id, "작성자" + (id % 10), 0L, now, now))
+                .toList());
+
+        // when: 각 형식으로 인코딩 후 디코딩
+        byte[] jsonBytes = json.writeValueAsBytes(response);
+        byte[] cborBytes = cbor.writeValueAsBytes(response);
+        byte[] smileBytes = smile.writeValueAsBytes(response);
+        log.info("payload bytes: json={}, cbor={}, smile={}", jsonBytes.length, cborBytes.length, smileBytes.length);
+
+        // then: 값은 동일하게 복원되고, 바이너리 형식이 더 작음
+        assertThat(cbor.readValue(cborBytes, COMMENTS).getResult()).isEqualTo(response.getResult());
+        assertThat(smile.readValue(smileBytes, COMMENTS).getResult()).isEqualTo(response.getResult());
+        assertThat(json.readValue(jsonBytes, COMMENTS).getResult()).isEqualTo(response.getResult());
+        assertThat(cborBytes.length).isLessThan(jsonBytes.length);
+        assertThat(smileBytes.length).isLessThan(jsonBytes.length);
+    }
+}
@@ -0,0 +1,132 @@
+package com.brightcha.boardcomment.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockCookie;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("읽기/쓰기 DataSource 라우팅 테스트")
+class ReplicationRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // given: 서로 다른 이름을 가진 내장 H2 인스턴스 (primary 1개, replica 2개)
+        DataSource primary = embedded("primary");
+        List<DataSource> replicas = List.of(embedded("replica-a"), embedded("replica-b"));
+
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(primary, replicas);
+        routing.afterPropertiesSet();
+        jdbcTemplate = new JdbcTemplate(new LazyConnectionDataSourceProxy(routing));
+    }
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRoutingContext.clear();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("쓰기 요청은 primary로 라우팅")
+    void writeGoesToPrimary() {
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("읽기 요청은 replica들에 번갈아 라우팅")
+    void readsAreSpreadOverReplicas() {
+        // given: GET 요청
+        DataSourceRoutingContext.markReadRequest();
+
+        // when & then: replica 두 곳을 번갈아 사용
+        assertThat(List.of(currentNode(), currentNode()))
+                .containsExactlyInAnyOrder("replica-a", "replica-b");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica로 라우팅")
+    void readOnlyTransactionGoesToReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(currentNode()).startsWith("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후의 읽기는 primary에 고정")
+    void pinnedReadGoesToPrimary() {
+        DataSourceRoutingContext.markReadRequest();
+        DataSourceRoutingContext.pinPrimary();
+
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 요청 후 읽기 고정 쿠키 발급, 만료 전 읽기는 primary 고정")
+    void filterPinsReadsAfterWrite() throws Exception {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(1_000_000L), ZoneOffset.UTC);
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(3), clock);
+
+        // when: 쓰기 요청
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/boards"), writeResponse, (req, res) -> { });
+
+        // then: 만료 시각이 담긴 쿠키 발급
+        assertThat(writeResponse.getCookie(ReadYourWritesFilter.PIN_COOKIE).getValue()).isEqualTo("1003000");
+
+        // when: 쿠키를 가진 읽기 요청
+        MockHttpServletRequest readRequest = new MockHttpServletRequest("GET", "/api/boards/1");
+        readRequest.setCookies(new MockCookie(ReadYourWritesFilter.PIN_COOKIE, "1003000"));
+        AtomicReference<String> node = new AtomicReference<>();
+        filter.doFilter(readRequest, new MockHttpServletResponse(), (req, res) -> node.set(currentNode()));
+
+        // then: primary로 고정되고, 요청이 끝나면 컨텍스트가 정리됨
+        assertThat(node.get()).isEqualTo("primary");
+        assertThat(DataSourceRoutingContext.isPrimaryPinned()).isFalse();
+    }
+
+    @Test
+    @DisplayName("고정 시간이 지난 읽기는 replica로 라우팅")
+    void expiredPinGoesToReplica() throws Exception {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(2_000_000L), ZoneOffset.UTC);
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(3), clock);
+
+        MockHttpServletRequest readRequest = new MockHttpServletRequest("GET", "/api/boards/1");
+        readRequest.setCookies(new MockCookie(ReadYourWritesFilter.PIN_COOKIE, "1003000"));
+        AtomicReference<String> node = new AtomicReference<>();
+        filter.doFilter(readRequest, new MockHttpServletResponse(), (req, res) -> node.set(currentNode()));
+
+        assertThat(node.get()).startsWith("replica");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private DataSource embedded(String name) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        template.execute("DELETE FROM node");
+        template.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
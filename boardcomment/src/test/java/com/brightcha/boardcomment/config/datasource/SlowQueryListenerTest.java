@@ -0,0 +1,34 @@
+package com.brightcha.boardcomment.config.datasource;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("느린 쿼리 로그 테스트")
+class SlowQueryListenerTest {
+
+    @Test
+    @DisplayName("쿼리와 바인드 파라미터를 기록하되 긴 값은 자름")
+    void describesQueryWithAbbreviatedParameters() throws Exception {
+        // given: 파라미터 두 개가 바인드된 쿼리
+        SlowQueryListener listener = new SlowQueryListener(200, 5);
+        QueryInfo queryInfo = new QueryInfo("SELECT * FROM comments WHERE board_id = ? AND content = ?");
+        queryInfo.getParametersList().add(List.of(
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class), new Object[]{1, 42L}),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class), new Object[]{2, "very long content"})
+        ));
+
+        // when
+        String description = listener.describe(List.of(queryInfo));
+
+        // then
+        assertThat(description)
+                .isEqualTo("query=[SELECT * FROM comments WHERE board_id = ? AND content = ?] params=[42, very ...]");
+    }
+}
@@ -42,6 +42,25 @@ class BoardControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("게시물 요약 목록 조회")
+    void getBoardSummaries() throws Exception {
+        // given: 게시물 생성
+        BoardResponseDto boardResponseDto = createBoard("제목", "내용", "작성자");
+
+        // when: 요약 뷰로 id, title만 선택해 조회
+        mockMvc.perform(get("/api/boards")
+                        .param("view", "summary")
+                        .param("fields", "id,title")
+                        .contentType(MediaType.APPLICATION_JSON))
+                // then: 선택한 필드만 응답에 포함
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result[?(@.id == %d)].title", boardResponseDto.id()).value("제목"))
+                .andExpect(jsonPath("$.result[0].content").doesNotExist())
+                .andExpect(jsonPath("$.result[0].username").doesNotExist())
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("게시물 단일 조회")
     void getBoard() throws Exception {
@@ -0,0 +1,176 @@
+package com.brightcha.boardcomment.event;
+
+import com.brightcha.boardcomment.config.datasource.DataSourceRoutingContext;
+import com.brightcha.boardcomment.repository.OutboxEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@DisplayName("도메인 이벤트 디스패처 테스트")
+class DomainEventDispatcherTest {
+
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final List<List<DomainEvent>> received = new ArrayList<>();
+
+    @Test
+    @DisplayName("큐가 가득 차면 요청 스레드를 막지 않고 거절")
+    void rejectsWhenQueueIsFull() {
+        // given: 용량 2인 큐
+        DomainEventDispatcher dispatcher = dispatcher(2, received::add);
+
+        // when: 이벤트 3개 전달
+        boolean first = dispatcher.enqueue(1L, new DomainEvent.BoardCreated(1L));
+        boolean second = dispatcher.enqueue(2L, new DomainEvent.BoardCreated(2L));
+        boolean third = dispatcher.enqueue(3L, new DomainEvent.BoardCreated(3L));
+
+        // then: 세 번째는 outbox relay 몫으로 남음
+        assertThat(List.of(first, second, third)).containsExactly(true, true, false);
+        assertThat(dispatcher.rejectedCount()).isEqualTo(1);
+        assertThat(dispatcher.isInFlight(3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 처리 중인 outbox 이벤트는 중복으로 넣지 않음")
+    void skipsEventsAlreadyInFlight() {
+        DomainEventDispatcher dispatcher = dispatcher(10, received::add);
+
+        assertThat(dispatcher.enqueue(1L, new DomainEvent.BoardCreated(1L))).isTrue();
+        assertThat(dispatcher.enqueue(1L, new DomainEvent.BoardCreated(1L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("배치 단위로 처리기에 전달하고 처리 완료 표시")
+    void dispatchesBatchAndMarksProcessed() {
+        DomainEventDispatcher dispatcher = dispatcher(10, received::add);
+        List<DomainEventDispatcher.PendingEvent> batch = List.of(
+                new DomainEventDispatcher.PendingEvent(1L, new DomainEvent.CommentCreated(10L, 1L)),
+                new DomainEventDispatcher.PendingEvent(2L, new DomainEvent.CommentDeleted(11L, 1L)));
+
+        dispatcher.dispatch(batch);
+
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0)).hasSize(2);
+        verify(outboxEventRepository).markProcessed(eq(List.of(1L, 2L)), any());
+    }
+
+    @Test
+    @DisplayName("처리기가 실패하면 처리 완료로 표시하지 않아 relay가 재전달")
+    void leavesFailedBatchForRelay() {
+        DomainEventDispatcher dispatcher = dispatcher(10, events -> {
+            throw new IllegalStateException("boom");
+        });
+
+        dispatcher.dispatch(List.of(new DomainEventDispatcher.PendingEvent(1L, new DomainEvent.BoardDeleted(1L))));
+
+        verify(outboxEventRepository, never()).markProcessed(any(), any());
+        verify(outboxEventRepository).markHandlersPending(eq(1L), any(), eq(1), any());
+    }
+
+    @Test
+    @DisplayName("일부 처리기만 실패하면 그 처리기만 재전달 대상으로 기록")
+    void recordsOnlyFailedHandlers() {
+        // given: 성공하는 처리기와 실패하는 처리기
+        DomainEventHandler succeeding = new NamedHandler("succeeding", received::add);
+        DomainEventHandler failing = new NamedHandler("failing", events -> {
+            throw new IllegalStateException("boom");
+        });
+        DomainEventDispatcher dispatcher = dispatcher(10, List.of(succeeding, failing));
+
+        // when
+        dispatcher.dispatch(List.of(new DomainEventDispatcher.PendingEvent(1L, new DomainEvent.BoardDeleted(1L))));
+
+        // then
+        assertThat(received).hasSize(1);
+        verify(outboxEventRepository).markHandlersPending(eq(1L), eq("failing"), eq(1), any());
+        verify(outboxEventRepository, never()).markProcessed(any(), any());
+    }
+
+    @Test
+    @DisplayName("재전달은 남은 처리기에만 전달")
+    void redeliversOnlyToPendingHandlers() {
+        // given
+        List<List<DomainEvent>> other = new ArrayList<>();
+        DomainEventDispatcher dispatcher = dispatcher(10, List.of(
+                new NamedHandler("done", received::add), new NamedHandler("failing", other::add)));
+
+        // when: 앞서 "failing"만 실패했던 이벤트
+        dispatcher.dispatch(List.of(new DomainEventDispatcher.PendingEvent(
+                1L, new DomainEvent.BoardDeleted(1L), Set.of("failing"), 1)));
+
+        // then
+        assertThat(received).isEmpty();
+        assertThat(other).hasSize(1);
+        verify(outboxEventRepository).markProcessed(eq(List.of(1L)), any());
+    }
+
+    @Test
+    @DisplayName("실패할 때마다 재전달을 두 배씩 늦추고 최대 지연을 넘지 않음")
+    void backsOffExponentially() {
+        DomainEventDispatcher dispatcher = dispatcher(10, received::add);
+
+        assertThat(List.of(dispatcher.retryDelay(1), dispatcher.retryDelay(2), dispatcher.retryDelay(3), dispatcher.retryDelay(40)))
+                .containsExactly(Duration.ofSeconds(10), Duration.ofSeconds(20), Duration.ofSeconds(30), Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패한 이벤트는 재전달하지 않고 보류")
+    void parksAfterMaxAttempts() {
+        // given: 이미 두 번 실패한 이벤트 (최대 3회)
+        DomainEventDispatcher dispatcher = dispatcher(10, events -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // when
+        dispatcher.dispatch(List.of(new DomainEventDispatcher.PendingEvent(
+                1L, new DomainEvent.BoardDeleted(1L), null, 2)));
+
+        // then
+        verify(outboxEventRepository).park(eq(1L), any(), eq(3), any());
+        verify(outboxEventRepository, never()).markHandlersPending(any(), any(), anyInt(), any());
+        verify(outboxEventRepository, never()).markProcessed(any(), any());
+    }
+
+    @Test
+    @DisplayName("처리기의 조회는 방금 커밋된 행이 보이도록 primary에 고정")
+    void pinsHandlerReadsToPrimary() {
+        // given
+        List<Boolean> pinned = new ArrayList<>();
+        DomainEventDispatcher dispatcher = dispatcher(10, events -> pinned.add(DataSourceRoutingContext.isPrimaryPinned()));
+
+        // when
+        dispatcher.dispatch(List.of(new DomainEventDispatcher.PendingEvent(1L, new DomainEvent.CommentCreated(10L, 1L))));
+
+        // then: 처리 중에는 고정, 끝나면 해제
+        assertThat(pinned).containsExactly(true);
+        assertThat(DataSourceRoutingContext.isPrimaryPinned()).isFalse();
+    }
+
+    private DomainEventDispatcher dispatcher(int capacity, DomainEventHandler handler) {
+        return dispatcher(capacity, List.of(handler));
+    }
+
+    private DomainEventDispatcher dispatcher(int capacity, List<DomainEventHandler> handlers) {
+        DomainEventProperties properties = new DomainEventProperties(capacity, 100, Duration.ofSeconds(10), 500, Duration.ofDays(1),
+                Duration.ofMinutes(1), 3, Duration.ofSeconds(10), Duration.ofSeconds(30));
+        return new DomainEventDispatcher(handlers, outboxEventRepository, transactionManager, properties);
+    }
+
+    private record NamedHandler(String name, DomainEventHandler delegate) implements DomainEventHandler {
+
+        @Override
+        public void handle(List<DomainEvent> events) {
+            delegate.handle(events);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.brightcha.boardcomment.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NDJSON 내보내기 테스트")
+class NdjsonExporterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private NdjsonExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        // given: 삭제된 행이 섞인 게시물/댓글 테이블
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:export;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS comments");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS boards");
+        jdbcTemplate.execute("CREATE TABLE boards (id BIGINT PRIMARY KEY, title VARCHAR(255), content VARCHAR(255), " +
+                "username VARCHAR(255), version BIGINT, created_at TIMESTAMP, updated_at TIMESTAMP, deleted_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE comments (id BIGINT PRIMARY KEY, board_id BIGINT, parent_id BIGINT, depth INT, " +
+                "content VARCHAR(255), username VARCHAR(255), version BIGINT, created_at TIMESTAMP, updated_at TIMESTAMP, deleted_at TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO boards VALUES (1, '제목', '내용', '작성자', 0, NOW(), NOW(), NULL)");
+        jdbcTemplate.update("INSERT INTO boards VALUES (2, '삭제됨', '내용', '작성자', 0, NOW(), NOW(), NOW())");
+        jdbcTemplate.update("INSERT INTO comments VALUES (10, 1, NULL, 0, '댓글 \"인용\"\n줄바꿈', '작성자', 0, NOW(), NOW(), NULL)");
+        jdbcTemplate.update("INSERT INTO comments VALUES (11, 1, 10, 1, '삭제된 답글', '작성자', 0, NOW(), NOW(), NOW())");
+
+        exporter = new NdjsonExporter(dataSource, objectMapper, new ExportProperties("secret", 100));
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 게시물과 댓글만 한 줄에 하나씩 내보냄")
+    void exportsLiveRowsAsNdjson() throws Exception {
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.export(out);
+
+        // then: 줄 단위로 파싱 가능한 JSON, 본문의 줄바꿈은 이스케이프됨
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : lines) {
+            rows.add(objectMapper.readTree(line));
+        }
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).get("type").asText()).isEqualTo("board");
+        assertThat(rows.get(0).get("id").asLong()).isEqualTo(1L);
+        assertThat(rows.get(1).get("type").asText()).isEqualTo("comment");
+        assertThat(rows.get(1).get("content").asText()).isEqualTo("댓글 \"인용\"\n줄바꿈");
+        assertThat(rows.get(1).get("created_at").isTextual()).isTrue();
+    }
+}
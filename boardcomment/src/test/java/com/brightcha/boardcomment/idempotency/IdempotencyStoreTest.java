@@ -0,0 +1,166 @@
+package com.brightcha.boardcomment.idempotency;
+
+import com.brightcha.boardcomment.common.exception.BoardCommentException;
+import com.brightcha.boardcomment.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Idempotency-Key 저장소 테스트")
+class IdempotencyStoreTest {
+
+    private static final String SCOPE = "POST /api/boards";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final IdempotencyStore store = new IdempotencyStore(
+            new IdempotencyProperties(Duration.ofMinutes(10), 2, Duration.ofSeconds(5)), clock::get);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키 재시도는 다시 실행하지 않고 최초 결과를 반환")
+    void replaysOriginalResult() {
+        String first = store.execute(SCOPE, "key-1", "body", this::create);
+        String retry = store.execute(SCOPE, "key-1", "body", this::create);
+
+        assertThat(retry).isSameAs(first);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키가 없거나 범위가 다르면 매번 실행")
+    void executesWithoutKeyOrInOtherScope() {
+        store.execute(SCOPE, null, "body", this::create);
+        store.execute(SCOPE, null, "body", this::create);
+        store.execute(SCOPE, "key-1", "body", this::create);
+        store.execute("POST /api/boards/1/comments", "key-1", "body", this::create);
+
+        assertThat(executions.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("같은 키에 다른 요청 본문이면 422")
+    void rejectsDifferentFingerprint() {
+        store.execute(SCOPE, "key-1", "body", this::create);
+
+        assertThatThrownBy(() -> store.execute(SCOPE, "key-1", "other body", this::create))
+                .isInstanceOfSatisfying(BoardCommentException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED));
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않아 재시도가 다시 실행됨")
+    void failureIsNotStored() {
+        assertThatThrownBy(() -> store.execute(SCOPE, "key-1", "body", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(store.execute(SCOPE, "key-1", "body", this::create)).isEqualTo("created-1");
+    }
+
+    @Test
+    @DisplayName("만료된 키는 다시 실행하고, 정리 후 저장소 크기가 줄어듦")
+    void expiresEntries() {
+        store.execute(SCOPE, "key-1", "body", this::create);
+        clock.addAndGet(Duration.ofMinutes(10).toNanos());
+
+        assertThat(store.execute(SCOPE, "key-1", "body", this::create)).isEqualTo("created-2");
+
+        clock.addAndGet(Duration.ofMinutes(10).toNanos());
+        store.evictExpired();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공해 저장된 키만 완료로 판단해 쓰기 제한을 건너뜀")
+    void reportsCompletedKeys() {
+        assertThatThrownBy(() -> store.execute(SCOPE, "key-1", "body", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(store.isCompleted(SCOPE, "key-1")).isFalse();
+
+        store.execute(SCOPE, "key-1", "body", this::create);
+        assertThat(store.isCompleted(SCOPE, "key-1")).isTrue();
+        assertThat(store.isCompleted("POST /api/other", "key-1")).isFalse();
+        assertThat(store.isCompleted(SCOPE, null)).isFalse();
+
+        clock.addAndGet(Duration.ofMinutes(10).toNanos());
+        assertThat(store.isCompleted(SCOPE, "key-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장소가 가득 차도 요청은 처리하되 저장하지 않음")
+    void fullStoreExecutesWithoutStoring() {
+        store.execute(SCOPE, "key-1", "body", this::create);
+        store.execute(SCOPE, "key-2", "body", this::create);
+        store.execute(SCOPE, "key-3", "body", this::create);
+        store.execute(SCOPE, "key-3", "body", this::create);
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(executions.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("처리 중인 같은 키 요청은 최초 결과를 기다려 받음")
+    void waitsForInProgressRequest() throws Exception {
+        // given: 최초 요청이 처리 중인 상태
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> original = CompletableFuture.supplyAsync(() -> store.execute(SCOPE, "key-1", "body", () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return create();
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 재시도가 들어온 뒤 최초 요청이 끝남
+        CompletableFuture<String> retry = CompletableFuture.supplyAsync(() -> store.execute(SCOPE, "key-1", "body", this::create));
+        release.countDown();
+
+        // then: 둘 다 같은 결과, 실행은 한 번
+        assertThat(retry.get(5, TimeUnit.SECONDS)).isEqualTo(original.get(5, TimeUnit.SECONDS));
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최초 요청이 처리 중인 동안만 처리 중으로 보고")
+    void reportsInProgressKeys() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> original = CompletableFuture.supplyAsync(() -> store.execute(SCOPE, "key-1", "body", () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return create();
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when / then
+        assertThat(store.isInProgress(SCOPE, "key-1")).isTrue();
+        assertThat(store.isInProgress(SCOPE, null)).isFalse();
+        release.countDown();
+        original.get(5, TimeUnit.SECONDS);
+        assertThat(store.isInProgress(SCOPE, "key-1")).isFalse();
+        assertThat(store.isCompleted(SCOPE, "key-1")).isTrue();
+    }
+
+    private String create() {
+        return "created-" + executions.incrementAndGet();
+    }
+}
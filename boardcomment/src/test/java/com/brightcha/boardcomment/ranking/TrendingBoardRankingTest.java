@@ -0,0 +1,73 @@
+package com.brightcha.boardcomment.ranking;
+
+import com.brightcha.boardcomment.dto.TrendingBoardResponseDto;
+import com.brightcha.boardcomment.event.DomainEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("인기 게시물 순위 테스트")
+class TrendingBoardRankingTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final TrendingBoardRanking ranking = new TrendingBoardRanking(
+            new TrendingProperties(Duration.ofHours(1), 2, 5.0, 1.0, 0.01, 100), clock::get);
+
+    @Test
+    @DisplayName("댓글과 조회 가중치로 점수를 매기고 상위 K개만 점수 순으로 스냅숏")
+    void ranksTopKByScore() {
+        // given: 게시물 1은 댓글 1개(5점), 2는 조회 2번(2점), 3은 댓글 2개(10점)
+        ranking.handle(List.of(new DomainEvent.CommentCreated(10L, 1L),
+                new DomainEvent.CommentCreated(11L, 3L), new DomainEvent.CommentCreated(12L, 3L)));
+        ranking.recordView(2L);
+        ranking.recordView(2L);
+
+        // when
+        ranking.refreshSnapshot();
+
+        // then: K=2
+        assertThat(ranking.top(10)).extracting(TrendingBoardResponseDto::boardId).containsExactly(3L, 1L);
+        assertThat(ranking.top(1)).extracting(TrendingBoardResponseDto::boardId).containsExactly(3L);
+        assertThat(ranking.top(10).get(0).score()).isCloseTo(10.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("반감기가 지나면 점수가 절반이 되어 최근 활동이 앞섬")
+    void scoresDecayOverTime() {
+        // given: 게시물 1은 한 시간 전 댓글 2개(10점), 게시물 2는 방금 댓글 1개(5점) + 조회 1번(1점)
+        ranking.handle(List.of(new DomainEvent.CommentCreated(10L, 1L), new DomainEvent.CommentCreated(11L, 1L)));
+        clock.addAndGet(Duration.ofHours(1).toMillis());
+        ranking.handle(List.of(new DomainEvent.CommentCreated(12L, 2L)));
+        ranking.recordView(2L);
+
+        // when
+        ranking.refreshSnapshot();
+
+        // then: 10점 → 5점으로 감쇠, 6점인 게시물 2가 앞섬
+        List<TrendingBoardResponseDto> top = ranking.top(10);
+        assertThat(top).extracting(TrendingBoardResponseDto::boardId).containsExactly(2L, 1L);
+        assertThat(top.get(1).score()).isCloseTo(5.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("삭제된 게시물과 충분히 식은 게시물은 추적에서 빠짐")
+    void dropsDeletedAndColdBoards() {
+        ranking.handle(List.of(new DomainEvent.CommentCreated(10L, 1L), new DomainEvent.CommentCreated(11L, 2L)));
+        ranking.handle(List.of(new DomainEvent.BoardDeleted(1L)));
+        assertThat(ranking.trackedBoards()).isEqualTo(1);
+
+        // when: 반감기 20번(약 100만분의 1) 경과
+        clock.addAndGet(Duration.ofHours(20).toMillis());
+        ranking.refreshSnapshot();
+
+        // then
+        assertThat(ranking.trackedBoards()).isZero();
+        assertThat(ranking.top(10)).isEmpty();
+    }
+}
@@ -0,0 +1,65 @@
+package com.brightcha.boardcomment.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AIMD 동시 실행 제한 테스트")
+class AimdConcurrencyLimiterTest {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    @DisplayName("한도만큼만 동시 실행을 허용")
+    void rejectsBeyondLimit() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 10, THRESHOLD, 0.5);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("빠른 응답이 이어지면 한도를 1씩 올림")
+    void additiveIncrease() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 10, THRESHOLD, 0.5);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한도를 거의 쓰지 않을 때는 늘리지 않음")
+    void noIncreaseWhenIdle() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 1, 20, THRESHOLD, 0.5);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("느린 응답이나 실패는 한도를 곱으로 줄이되 최소값 아래로는 내리지 않음")
+    void multiplicativeDecrease() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(8, 3, 10, THRESHOLD, 0.5);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,101 @@
+package com.brightcha.boardcomment.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GCRA 속도 제한 테스트")
+class GcraRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("버스트만큼 허용한 뒤 거절하고, 배출 간격이 지나면 다시 허용")
+    void burstThenRefill() {
+        // given: 초당 10건, 버스트 5
+        GcraRateLimiter limiter = new GcraRateLimiter(10, 5, 100, clock::get);
+
+        // when & then: 연속 5건 허용 후 거절
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("user")).isTrue();
+        }
+        assertThat(limiter.tryAcquire("user")).isFalse();
+
+        // when & then: 100ms(배출 간격) 후 1건만 다시 허용
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(limiter.tryAcquire("user")).isTrue();
+        assertThat(limiter.tryAcquire("user")).isFalse();
+    }
+
+    @Test
+    @DisplayName("키끼리는 서로 영향을 주지 않음")
+    void keysAreIndependent() {
+        GcraRateLimiter limiter = new GcraRateLimiter(1, 1, 100, clock::get);
+
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isFalse();
+        assertThat(limiter.tryAcquire("b")).isTrue();
+    }
+
+    @Test
+    @DisplayName("버킷이 다시 가득 찬 키는 정리되고, 키 수 한도는 넘지 않음")
+    void evictsIdleKeysAndBoundsSize() {
+        // given: 키 최대 2개
+        GcraRateLimiter limiter = new GcraRateLimiter(10, 1, 2, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // when: 한도에 찬 상태에서 새 키 → 정리할 키가 없으므로 추적하지 않고 통과
+        assertThat(limiter.tryAcquire("c")).isTrue();
+        assertThat(limiter.trackedKeys()).isEqualTo(2);
+
+        // when: 배출 간격이 지난 뒤 정리
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        limiter.evictIdle();
+
+        // then
+        assertThat(limiter.trackedKeys()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 버스트보다 많이 허용하지 않음")
+    void concurrentAcquireNeverExceedsBurst() throws Exception {
+        // given: 시계를 고정한 상태에서 버스트 100
+        GcraRateLimiter limiter = new GcraRateLimiter(1, 100, 100, clock::get);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // when: 8개 스레드가 같은 키로 1000번씩 요청
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 1000; i++) {
+                    if (limiter.tryAcquire("hot")) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then: 정확히 버스트만큼만 허용
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,95 @@
+package com.brightcha.boardcomment.service;
+
+import com.brightcha.boardcomment.common.exception.BoardCommentException;
+import com.brightcha.boardcomment.dto.BoardRequestDto;
+import com.brightcha.boardcomment.dto.BoardResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("게시물 동시 수정 테스트")
+class BoardServiceConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardServiceConcurrencyTest.class);
+    private static final int WRITERS = 8;
+    private static final int UPDATES_PER_WRITER = 20;
+
+    @Autowired
+    private BoardService boardService;
+
+    private Long boardId;
+
+    @AfterEach
+    void tearDown() {
+        if (boardId != null) {
+            boardService.deleteBoard(boardId);
+        }
+    }
+
+    @Test
+    @DisplayName("동시 수정 시 갱신 손실 없이 모든 수정이 버전에 반영됨")
+    void concurrentUpdatesAreNotLost() throws Exception {
+        // given: 여러 작성자가 같은 게시물을 수정
+        BoardResponseDto created = boardService.createBoard(new BoardRequestDto("제목", "내용", "작성자"));
+        boardId = created.id();
+
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when: 각 작성자가 If-Match 버전을 붙여 수정하고, 충돌 시 최신 버전으로 재시도
+        for (int writer = 0; writer < WRITERS; writer++) {
+            int writerId = writer;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < UPDATES_PER_WRITER; i++) {
+                    while (true) {
+                        Long version = boardService.getBoard(boardId).version();
+                        try {
+                            boardService.updateBoard(boardId,
+                                    new BoardRequestDto("제목 " + writerId, "내용 " + i, "작성자"), version);
+                            break;
+                        } catch (BoardCommentException | OptimisticLockingFailureException e) {
+                            conflicts.incrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        // then: 성공한 수정 수만큼 버전이 증가 (덮어쓰기로 사라진 수정 없음)
+        int successes = WRITERS * UPDATES_PER_WRITER;
+        BoardResponseDto after = boardService.getBoard(boardId);
+        assertThat(after.version()).isEqualTo(created.version() + successes);
+
+        double throughput = successes / (elapsedNanos / 1_000_000_000.0);
+        log.info("writers={} updates={} conflicts={} throughput={} updates/s",
+                WRITERS, successes, conflicts.get(), String.format("%.1f", throughput));
+    }
+}
@@ -1,22 +1,42 @@
 package com.brightcha.boardcomment.service;
 
+import com.brightcha.boardcomment.cache.BoardExistenceFilter;
+import com.brightcha.boardcomment.common.exception.BoardCommentException;
+import com.brightcha.boardcomment.common.exception.ErrorCode;
+import com.brightcha.boardcomment.dto.BatchLookupResponseDto;
+import com.brightcha.boardcomment.dto.BoardFeedResponseDto;
 import com.brightcha.boardcomment.dto.BoardRequestDto;
 import com.brightcha.boardcomment.dto.BoardResponseDto;
+import com.brightcha.boardcomment.dto.BoardSummaryResponseDto;
 import com.brightcha.boardcomment.entity.Board;
+import com.brightcha.boardcomment.entity.Comment;
+import com.brightcha.boardcomment.event.DomainEvent;
 import com.brightcha.boardcomment.repository.BoardRepository;
+import com.brightcha.boardcomment.repository.CommentRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +47,12 @@ class BoardServiceImplTest {
     private BoardServiceImpl boardService;
     @Mock
     private BoardRepository boardRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private BoardExistenceFilter boardExistenceFilter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Test
     @DisplayName("단일 게시물 조회")
@@ -46,6 +72,37 @@ class BoardServiceImplTest {
         verify(boardRepository).findById(boardId);
     }
 
+    @Test
+    @DisplayName("없는 게시물 조회")
+    void getMissingBoard() {
+        // given: 필요한 데이터와 Mock 객체의 동작 설정
+        Long boardId = 404L;
+        when(boardRepository.findById(boardId)).thenReturn(Optional.empty());
+
+        // when & then: 스택 트레이스 없는 404 예외
+        assertThatThrownBy(() -> boardService.getBoard(boardId))
+                .isInstanceOfSatisfying(BoardCommentException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.BOARD_NOT_FOUND);
+                    assertThat(e.getErrorCode().getStatus().value()).isEqualTo(404);
+                    assertThat(e.getStackTrace()).isEmpty();
+                });
+        verify(boardExistenceFilter).markMissing(boardId);
+    }
+
+    @Test
+    @DisplayName("필터가 없다고 판단한 게시물은 DB 조회 없이 404")
+    void getBoardFilteredOut() {
+        // given: 필요한 데이터와 Mock 객체의 동작 설정
+        Long boardId = 404L;
+        when(boardExistenceFilter.definitelyMissing(boardId)).thenReturn(true);
+
+        // when & then: 예외 검증
+        assertThatThrownBy(() -> boardService.getBoard(boardId))
+                .isInstanceOf(BoardCommentException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.BOARD_NOT_FOUND);
+        verify(boardRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("게시물 목록 조회")
     void getBoards() {
@@ -62,6 +119,91 @@ class BoardServiceImplTest {
         verify(boardRepository).findAll();
     }
 
+    @Test
+    @DisplayName("게시물 요약 목록 조회 - 미리보기 자르기와 필드 선택")
+    void getBoardSummaries() {
+        // given: 미리보기 길이를 넘는 본문을 가진 게시물
+        String longContent = "가".repeat(BoardSummaryResponseDto.PREVIEW_LENGTH + 1);
+        when(boardRepository.findAllSummaries(BoardSummaryResponseDto.PREVIEW_LENGTH + 1))
+                .thenReturn(List.of(summary(1L, longContent), summary(2L, "짧은 내용")));
+
+        // when: 전체 필드와 일부 필드로 각각 조회
+        List<BoardSummaryResponseDto> all = boardService.getBoardSummaries(null);
+        List<BoardSummaryResponseDto> selected = boardService.getBoardSummaries(Set.of("id", "title"));
+
+        // then: 긴 본문만 잘리고, 선택하지 않은 필드는 비어 있음
+        assertThat(all.get(0).preview()).hasSize(BoardSummaryResponseDto.PREVIEW_LENGTH + 1).endsWith("…");
+        assertThat(all.get(1).preview()).isEqualTo("짧은 내용");
+        assertThat(selected.get(0).id()).isEqualTo(1L);
+        assertThat(selected.get(0).title()).isEqualTo("제목");
+        assertThat(selected.get(0).preview()).isNull();
+        assertThat(selected.get(0).username()).isNull();
+    }
+
+    @Test
+    @DisplayName("게시물 일괄 조회 - 요청 순서 유지, 없는 id 표시, 필터로 걸러진 id는 DB 조회 안 함")
+    void getBoardsByIds() {
+        // given: 1은 존재, 2는 DB에 없음, 3은 필터가 없다고 판단
+        Board board = Board.create("제목", "내용", "작성자");
+        ReflectionTestUtils.setField(board, "id", 1L);
+        when(boardExistenceFilter.definitelyMissing(anyLong())).thenAnswer(invocation -> invocation.getArgument(0).equals(3L));
+        List<Board> loaded = new ArrayList<>();
+        loaded.add(null);
+        loaded.add(board);
+        when(boardRepository.findAllByIdInOrder(List.of(2L, 1L))).thenReturn(loaded);
+
+        // when: 중복 id를 포함해 조회
+        BatchLookupResponseDto<BoardResponseDto> result = boardService.getBoardsByIds(List.of(2L, 1L, 3L, 1L));
+
+        // then
+        assertThat(result.results()).extracting(BatchLookupResponseDto.Entry::id).containsExactly(2L, 1L, 3L, 1L);
+        assertThat(result.results()).extracting(BatchLookupResponseDto.Entry::found).containsExactly(false, true, false, true);
+        assertThat(result.results().get(1).value().title()).isEqualTo("제목");
+        assertThat(result.missingIds()).containsExactly(2L, 3L);
+        verify(boardExistenceFilter).markMissing(2L);
+    }
+
+    @Test
+    @DisplayName("게시물 일괄 조회 - 너무 많은 id는 400")
+    void getBoardsByIdsTooMany() {
+        List<Long> ids = LongStream.rangeClosed(1, BatchLookupResponseDto.MAX_IDS + 1).boxed().toList();
+
+        assertThatThrownBy(() -> boardService.getBoardsByIds(ids))
+                .isInstanceOfSatisfying(BoardCommentException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.BATCH_TOO_LARGE));
+        verifyNoInteractions(boardRepository);
+    }
+
+    @Test
+    @DisplayName("게시물 피드 조회 - 게시물 수와 관계없이 쿼리 3번")
+    void getFeed() {
+        // given: 게시물 두 개 중 하나에만 댓글이 있음
+        when(boardRepository.findLatestSummaries(eq(BoardSummaryResponseDto.PREVIEW_LENGTH + 1), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(summary(2L, "내용"), summary(1L, "내용")), PageRequest.of(0, 2), true));
+        CommentRepository.CommentCount count = mock(CommentRepository.CommentCount.class);
+        when(count.getBoardId()).thenReturn(2L);
+        when(count.getCommentCount()).thenReturn(5L);
+        when(commentRepository.countByBoardIds(List.of(2L, 1L))).thenReturn(List.of(count));
+        CommentRepository.LatestComment latest = mock(CommentRepository.LatestComment.class);
+        when(latest.getId()).thenReturn(10L);
+        when(latest.getBoardId()).thenReturn(2L);
+        when(commentRepository.findLatestByBoardIds(List.of(2L, 1L), 3)).thenReturn(List.of(latest));
+
+        // when
+        BoardFeedResponseDto feed = boardService.getFeed(0, 2, 3);
+
+        // then: 게시물 순서 유지, 댓글 없는 게시물은 0개 / 빈 목록
+        assertThat(feed.hasNext()).isTrue();
+        assertThat(feed.boards()).hasSize(2);
+        assertThat(feed.boards().get(0).board().id()).isEqualTo(2L);
+        assertThat(feed.boards().get(0).commentCount()).isEqualTo(5L);
+        assertThat(feed.boards().get(0).latestComments()).extracting("id").containsExactly(10L);
+        assertThat(feed.boards().get(1).commentCount()).isZero();
+        assertThat(feed.boards().get(1).latestComments()).isEmpty();
+        verify(commentRepository).countByBoardIds(List.of(2L, 1L));
+        verify(commentRepository).findLatestByBoardIds(List.of(2L, 1L), 3);
+    }
+
     @Test
     @DisplayName("게시물 저장")
     void createBoard() {
@@ -81,6 +223,7 @@ class BoardServiceImplTest {
         // then: 결과 검증
         assertThat(boardResponseDto.id()).isEqualTo(boardId);
         verify(boardRepository).save(any(Board.class));
+        verify(eventPublisher).publishEvent(new DomainEvent.BoardCreated(boardId));
     }
 
     @Test
@@ -95,10 +238,9 @@ class BoardServiceImplTest {
         BoardRequestDto boardRequestDto = new BoardRequestDto("수정된 제목", "수정된 내용", "작성자");
 
         when(boardRepository.findById(boardId)).thenReturn(Optional.of(beforeBoard));
-        when(boardRepository.save(any(Board.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when: 테스트 대상 메서드 호출
-        BoardResponseDto boardResponseDto = boardService.updateBoard(boardId, boardRequestDto);
+        BoardResponseDto boardResponseDto = boardService.updateBoard(boardId, boardRequestDto, null);
 
         // then: 결과 검증
         assertThat(boardResponseDto.id()).isEqualTo(boardId);
@@ -106,7 +248,63 @@ class BoardServiceImplTest {
         assertThat(boardResponseDto.content()).isEqualTo(boardRequestDto.content());
 
         verify(boardRepository).findById(boardId);
-        verify(boardRepository).save(any(Board.class));
+        verify(boardRepository).flush();
+        verify(boardRepository, never()).save(any(Board.class));
+    }
+
+    @Test
+    @DisplayName("조회 없이 게시물 수정")
+    void updateBoardInPlace() {
+        // given: 필요한 데이터와 Mock 객체의 동작 설정
+        Long boardId = 1L;
+        BoardRequestDto boardRequestDto = new BoardRequestDto("수정된 제목", "수정된 내용", "작성자");
+
+        when(boardRepository.updateContent(eq(boardId), eq("수정된 제목"), eq("수정된 내용"), any(LocalDateTime.class), eq(3L)))
+                .thenReturn(1);
+
+        // when: 테스트 대상 메서드 호출
+        boardService.updateBoardInPlace(boardId, boardRequestDto, 3L);
+
+        // then: 결과 검증 - UPDATE 한 번, SELECT 없음
+        verify(boardRepository, never()).findById(any());
+        verify(boardRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("조회 없이 게시물 수정 시 버전 불일치")
+    void updateBoardInPlaceWithStaleVersion() {
+        // given: 필요한 데이터와 Mock 객체의 동작 설정
+        Long boardId = 1L;
+        BoardRequestDto boardRequestDto = new BoardRequestDto("수정된 제목", "수정된 내용", "작성자");
+
+        when(boardRepository.updateContent(eq(boardId), any(), any(), any(LocalDateTime.class), eq(2L))).thenReturn(0);
+        when(boardRepository.existsById(boardId)).thenReturn(true);
+
+        // when & then: 예외 검증
+        assertThatThrownBy(() -> boardService.updateBoardInPlace(boardId, boardRequestDto, 2L))
+                .isInstanceOf(BoardCommentException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.VERSION_MISMATCH);
+    }
+
+    @Test
+    @DisplayName("If-Match 버전이 다른 게시물 수정 실패")
+    void updateBoardWithStaleVersion() {
+        // given: 필요한 데이터와 Mock 객체의 동작 설정
+        Long boardId = 1L;
+        Board beforeBoard = Board.create("제목", "내용", "작성자");
+        ReflectionTestUtils.setField(beforeBoard, "id", boardId);
+        ReflectionTestUtils.setField(beforeBoard, "version", 3L);
+
+        BoardRequestDto boardRequestDto = new BoardRequestDto("수정된 제목", "수정된 내용", "작성자");
+
+        when(boardRepository.findById(boardId)).thenReturn(Optional.of(beforeBoard));
+
+        // when & then: 예외 검증
+        assertThatThrownBy(() -> boardService.updateBoard(boardId, boardRequestDto, 2L))
+                .isInstanceOf(BoardCommentException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.VERSION_MISMATCH);
+        assertThat(beforeBoard.getTitle()).isEqualTo("제목");
+        verify(boardRepository, never()).save(any(Board.class));
     }
 
     @Test
@@ -128,4 +326,64 @@ class BoardServiceImplTest {
         verify(boardRepository).delete(board);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("게시물 삭제 시 함께 삭제되는 댓글마다 삭제 이벤트 발행")
+    void deleteBoardPublishesCascadedCommentDeletes() {
+        // given: 댓글 두 개가 달린 게시물
+        Long boardId = 1L;
+        Board board = Board.create("제목", "내용", "작성자");
+        ReflectionTestUtils.setField(board, "id", boardId);
+        List<Comment> comments = new ArrayList<>();
+        for (long commentId = 10; commentId <= 11; commentId++) {
+            Comment comment = Comment.create("댓글", "작성자", board);
+            ReflectionTestUtils.setField(comment, "id", commentId);
+            comments.add(comment);
+        }
+        ReflectionTestUtils.setField(board, "comments", comments);
+        when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+
+        // when
+        boardService.deleteBoard(boardId);
+
+        // then
+        verify(eventPublisher).publishEvent(new DomainEvent.BoardDeleted(boardId));
+        verify(eventPublisher).publishEvent(new DomainEvent.CommentDeleted(10L, boardId));
+        verify(eventPublisher).publishEvent(new DomainEvent.CommentDeleted(11L, boardId));
+    }
+
+
+    private static BoardRepository.BoardSummary summary(Long id, String preview) {
+        LocalDateTime now = LocalDateTime.now();
+        return new BoardRepository.BoardSummary() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return "제목";
+            }
+
+            @Override
+            public String getUsername() {
+                return "작성자";
+            }
+
+            @Override
+            public String getPreview() {
+                return preview;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return now;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return now;
+            }
+        };
+    }
+}
@@ -1,10 +1,18 @@
 package com.brightcha.boardcomment.service;
 
+import com.brightcha.boardcomment.cache.BoardExistenceFilter;
+import com.brightcha.boardcomment.common.exception.BoardCommentException;
+import com.brightcha.boardcomment.common.exception.ErrorCode;
+import com.brightcha.boardcomment.dto.BatchLookupResponseDto;
 import com.brightcha.boardcomment.dto.CommentRequestDto;
 import com.brightcha.boardcomment.dto.CommentResponseDto;
+import com.brightcha.boardcomment.dto.CommentThreadResponseDto;
 import com.brightcha.boardcomment.dto.CommentUpdateRequestDto;
+import com.brightcha.boardcomment.dto.RootCommentResponseDto;
+import com.brightcha.boardcomment.dto.RootCommentSliceResponseDto;
 import com.brightcha.boardcomment.entity.Board;
 import com.brightcha.boardcomment.entity.Comment;
+import com.brightcha.boardcomment.event.DomainEvent;
 import com.brightcha.boardcomment.repository.BoardRepository;
 import com.brightcha.boardcomment.repository.CommentRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -13,13 +21,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,9 +47,35 @@ class CommentServiceImplTest {
     private CommentRepository commentRepository;
     @Mock
     private BoardRepository boardRepository;
+    @Mock
+    private BoardExistenceFilter boardExistenceFilter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private CommentServiceImpl commentService;
 
+    @Test
+    @DisplayName("댓글 일괄 조회 - 요청 순서 유지, 없는 id 표시")
+    void getCommentsByIds() {
+        // given: 10은 존재, 20은 없음
+        Board board = Board.create("제목", "내용", "작성자");
+        ReflectionTestUtils.setField(board, "id", 1L);
+        Comment comment = Comment.create("내용", "작성자", board);
+        ReflectionTestUtils.setField(comment, "id", 10L);
+        List<Comment> loaded = new ArrayList<>();
+        loaded.add(comment);
+        loaded.add(null);
+        when(commentRepository.findAllByIdInOrder(List.of(10L, 20L))).thenReturn(loaded);
+
+        // when
+        BatchLookupResponseDto<CommentResponseDto> result = commentService.getCommentsByIds(List.of(10L, 20L, 10L));
+
+        // then
+        assertThat(result.results()).extracting(BatchLookupResponseDto.Entry::found).containsExactly(true, false, true);
+        assertThat(result.results().get(0).value().boardId()).isEqualTo(1L);
+        assertThat(result.missingIds()).containsExactly(20L);
+    }
+
     @Test
     @DisplayName("댓글 목록 조회")
     void getComments() {
@@ -55,6 +98,19 @@ class CommentServiceImplTest {
         verify(commentRepository).findAllByBoardId(boardId);
     }
 
+    @Test
+    @DisplayName("없는 댓글의 스레드 조회")
+    void getThreadOfMissingComment() {
+        // given: 필요한 데이터와 Mock 객체의 동작 설정
+        when(commentRepository.findById(404L)).thenReturn(Optional.empty());
+
+        // when & then: 예외 검증
+        assertThatThrownBy(() -> commentService.getThread(404L))
+                .isInstanceOf(BoardCommentException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.COMMENT_NOT_FOUND);
+        verify(commentRepository, never()).findSubtree(any(), any(), any());
+    }
+
     @Test
     @DisplayName("댓글 생성")
     void createComment() {
@@ -66,17 +122,185 @@ class CommentServiceImplTest {
 
         // given: 필요한 데이터와 Mock 객체의 동작 설정
         when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> {
+            Comment comment = invocation.getArgument(0);
+            ReflectionTestUtils.setField(comment, "id", 10L);
+            return comment;
+        });
 
         // when: 테스트 대상 메서드 호출
         CommentResponseDto responseDto = commentService.createComment(boardId, commentRequestDto);
 
         // then: 결과 검증
         assertThat(responseDto).isNotNull();
+        assertThat(responseDto.parentId()).isNull();
+        verify(eventPublisher).publishEvent(new DomainEvent.CommentCreated(10L, boardId));
         verify(boardRepository).findById(boardId);
         verify(commentRepository).save(any(Comment.class));
     }
 
+    @Test
+    @DisplayName("답글 생성")
+    void createReply() {
+        Board board = Board.create("제목", "내용", "작성자");
+        ReflectionTestUtils.setField(board, "id", 1L);
+        Comment parent = savedComment(board, null, 2L);
+
+        CommentRequestDto commentRequestDto = new CommentRequestDto("답글", "작성자");
+
+        // given: 필요한 데이터와 Mock 객체의 동작 설정
+        when(commentRepository.findById(2L)).thenReturn(Optional.of(parent));
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> {
+            Comment comment = invocation.getArgument(0);
+            ReflectionTestUtils.setField(comment, "id", 3L);
+            return comment;
+        });
+
+        // when: 테스트 대상 메서드 호출
+        CommentResponseDto responseDto = commentService.createReply(2L, commentRequestDto);
+
+        // then: 결과 검증
+        assertThat(responseDto.parentId()).isEqualTo(2L);
+        assertThat(responseDto.depth()).isEqualTo(1);
+        assertThat(responseDto.boardId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("최대 깊이를 넘는 답글 생성 실패")
+    void createReplyTooDeep() {
+        Board board = Board.create("제목", "내용", "작성자");
+        Comment parent = savedComment(board, null, 1L);
+        for (long id = 2; id <= Comment.MAX_DEPTH + 1; id++) {
+            parent = savedComment(board, parent, id);
+        }
+        Long deepestId = parent.getId();
+
+        // given: 필요한 데이터와 Mock 객체의 동작 설정
+        when(commentRepository.findById(deepestId)).thenReturn(Optional.of(parent));
+
+        // when & then: 예외 검증
+        assertThatThrownBy(() -> commentService.createReply(deepestId, new CommentRequestDto("답글", "작성자")))
+                .isInstanceOf(BoardCommentException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.COMMENT_DEPTH_EXCEEDED);
+        verify(commentRepository, never()).save(any(Comment.class));
+    }
+
+    @Test
+    @DisplayName("경로가 없는 댓글에는 답글을 만들지 않음")
+    void createReplyUnderCommentWithoutPath() {
+        Board board = Board.create("제목", "내용", "작성자");
+        Comment legacy = Comment.create("내용", "작성자", board);
+        ReflectionTestUtils.setField(legacy, "id", 2L);
+
+        // given: 경로가 채워지지 않은 기존 댓글
+        when(commentRepository.findById(2L)).thenReturn(Optional.of(legacy));
+
+        // when & then: 예외 검증
+        assertThatThrownBy(() -> commentService.createReply(2L, new CommentRequestDto("답글", "작성자")))
+                .isInstanceOf(BoardCommentException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR);
+        verify(commentRepository, never()).save(any(Comment.class));
+    }
+
+    @Test
+    @DisplayName("최상위 댓글 목록과 답글 수 조회")
+    void getRootComments() {
+        Long boardId = 1L;
+        Board board = Board.create("제목", "내용", "작성자");
+        ReflectionTestUtils.setField(board, "id", boardId);
+        Comment first = savedComment(board, null, 1L);
+        Comment second = savedComment(board, null, 2L);
+
+        // given: 필요한 데이터와 Mock 객체의 동작 설정
+        when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+        when(commentRepository.findAllByBoardIdAndParentIdIsNullOrderByIdAsc(eq(boardId), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(first, second), PageRequest.of(0, 2), true));
+        when(commentRepository.countRepliesByRootIds(boardId, List.of(1L, 2L)))
+                .thenReturn(List.of(replyCount(1L, 5L)));
+
+        // when: 테스트 대상 메서드 호출
+        RootCommentSliceResponseDto slice = commentService.getRootComments(boardId, 0, 2);
+
+        // then: 결과 검증
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.comments()).extracting(RootCommentResponseDto::replyCount).containsExactly(5L, 0L);
+        verify(commentRepository, times(1)).countRepliesByRootIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("깊은 스레드 조회")
+    void getDeepThread() {
+        Board board = Board.create("제목", "내용", "작성자");
+        List<Comment> chain = new ArrayList<>();
+        Comment parent = savedComment(board, null, 1L);
+        chain.add(parent);
+        for (long id = 2; id <= Comment.MAX_DEPTH + 1; id++) {
+            parent = savedComment(board, parent, id);
+            chain.add(parent);
+        }
+        Comment root = chain.get(0);
+
+        // given: 필요한 데이터와 Mock 객체의 동작 설정
+        when(commentRepository.findById(root.getId())).thenReturn(Optional.of(root));
+        when(commentRepository.findSubtree(board.getId(), root.getRootId(), root.getPath())).thenReturn(chain);
+
+        // when: 테스트 대상 메서드 호출
+        CommentThreadResponseDto thread = commentService.getThread(root.getId());
+
+        // then: 결과 검증 - 깊이와 관계없이 하위 트리 조회는 한 번
+        int depth = 0;
+        CommentThreadResponseDto node = thread;
+        while (!node.replies().isEmpty()) {
+            assertThat(node.replies()).hasSize(1);
+            node = node.replies().get(0);
+            depth++;
+        }
+        assertThat(depth).isEqualTo(Comment.MAX_DEPTH);
+        verify(commentRepository, times(1)).findSubtree(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("넓은 스레드 조회")
+    void getWideThread() {
+        Board board = Board.create("제목", "내용", "작성자");
+        Comment root = savedComment(board, null, 1L);
+        List<Comment> subtree = new ArrayList<>();
+        subtree.add(root);
+        for (long id = 2; id <= 10_001; id++) {
+            subtree.add(savedComment(board, root, id));
+        }
+
+        // given: 필요한 데이터와 Mock 객체의 동작 설정
+        when(commentRepository.findById(root.getId())).thenReturn(Optional.of(root));
+        when(commentRepository.findSubtree(board.getId(), root.getRootId(), root.getPath())).thenReturn(subtree);
+
+        // when: 테스트 대상 메서드 호출
+        CommentThreadResponseDto thread = commentService.getThread(root.getId());
+
+        // then: 결과 검증 - 답글 수와 관계없이 하위 트리 조회는 한 번
+        assertThat(thread.replies()).hasSize(10_000);
+        verify(commentRepository, times(1)).findSubtree(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("중간 댓글이 삭제된 스레드 조회")
+    void getThreadWithDeletedMiddle() {
+        Board board = Board.create("제목", "내용", "작성자");
+        Comment root = savedComment(board, null, 1L);
+        Comment deleted = savedComment(board, root, 2L);
+        Comment orphan = savedComment(board, deleted, 3L);
+
+        // given: 삭제된 댓글(2)은 조회 결과에서 빠진다
+        when(commentRepository.findById(root.getId())).thenReturn(Optional.of(root));
+        when(commentRepository.findSubtree(board.getId(), root.getRootId(), root.getPath())).thenReturn(List.of(root, orphan));
+
+        // when: 테스트 대상 메서드 호출
+        CommentThreadResponseDto thread = commentService.getThread(root.getId());
+
+        // then: 결과 검증 - 살아 있는 가장 가까운 조상에 연결
+        assertThat(thread.replies()).extracting(CommentThreadResponseDto::id).containsExactly(3L);
+    }
+
     @Test
     @DisplayName("댓글 수정")
     void updateComment() {
@@ -90,15 +314,71 @@ class CommentServiceImplTest {
 
         // given: 필요한 데이터와 Mock 객체의 동작 설정
         when(commentRepository.findById(commentId)).thenReturn(Optional.of(beforeComment));
-        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when: 테스트 대상 메서드 호출
-        CommentResponseDto commentResponseDto = commentService.updateComment(commentId, updateRequestDto);
+        CommentResponseDto commentResponseDto = commentService.updateComment(commentId, updateRequestDto, null);
 
         // then: 결과 검증
         assertThat(commentResponseDto).isNotNull();
+        assertThat(commentResponseDto.content()).isEqualTo(updateRequestDto.content());
         verify(commentRepository).findById(commentId);
-        verify(commentRepository).save(any(Comment.class));
+        verify(commentRepository).flush();
+        verify(commentRepository, never()).save(any(Comment.class));
+    }
+
+    @Test
+    @DisplayName("조회 없이 댓글 수정")
+    void updateCommentInPlace() {
+        Long commentId = 2L;
+        CommentUpdateRequestDto updateRequestDto = new CommentUpdateRequestDto("수정된 내용");
+
+        // given: 필요한 데이터와 Mock 객체의 동작 설정
+        when(commentRepository.updateContent(eq(commentId), eq("수정된 내용"), any(LocalDateTime.class), isNull()))
+                .thenReturn(1);
+
+        // when: 테스트 대상 메서드 호출
+        commentService.updateCommentInPlace(commentId, updateRequestDto, null);
+
+        // then: 결과 검증 - SELECT 없이 UPDATE 한 번
+        verify(commentRepository, never()).findById(any());
+        verify(commentRepository, never()).existsById(any());
+        verify(eventPublisher).publishEvent(new DomainEvent.CommentUpdated(commentId, null));
+    }
+
+    @Test
+    @DisplayName("조회 없이 댓글 수정 - 버전 불일치")
+    void updateCommentInPlaceWithStaleVersion() {
+        Long commentId = 2L;
+        CommentUpdateRequestDto updateRequestDto = new CommentUpdateRequestDto("수정된 내용");
+
+        // given: 필요한 데이터와 Mock 객체의 동작 설정
+        when(commentRepository.updateContent(eq(commentId), eq("수정된 내용"), any(LocalDateTime.class), eq(3L)))
+                .thenReturn(0);
+        when(commentRepository.existsById(commentId)).thenReturn(true);
+
+        // when & then: 예외 검증
+        assertThatThrownBy(() -> commentService.updateCommentInPlace(commentId, updateRequestDto, 3L))
+                .isInstanceOf(BoardCommentException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.VERSION_MISMATCH);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("조회 없이 댓글 수정 - If-Match를 보냈지만 없는 댓글")
+    void updateMissingCommentInPlaceWithVersion() {
+        Long commentId = 2L;
+        CommentUpdateRequestDto updateRequestDto = new CommentUpdateRequestDto("수정된 내용");
+
+        // given: 삭제됐거나 없는 댓글
+        when(commentRepository.updateContent(eq(commentId), eq("수정된 내용"), any(LocalDateTime.class), eq(3L)))
+                .thenReturn(0);
+        when(commentRepository.existsById(commentId)).thenReturn(false);
+
+        // when & then: 예외 검증
+        assertThatThrownBy(() -> commentService.updateCommentInPlace(commentId, updateRequestDto, 3L))
+                .isInstanceOf(BoardCommentException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.COMMENT_NOT_FOUND);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -121,4 +401,27 @@ class CommentServiceImplTest {
         verify(commentRepository).delete(comment);
     }
 
+    private Comment savedComment(Board board, Comment parent, Long id) {
+        Comment comment = parent == null
+                ? Comment.create("내용", "작성자", board)
+                : Comment.createReply("답글", "작성자", parent);
+        ReflectionTestUtils.setField(comment, "id", id);
+        comment.completePath();
+        return comment;
+    }
+
+    private CommentRepository.ReplyCount replyCount(Long rootId, long count) {
+        return new CommentRepository.ReplyCount() {
+            @Override
+            public Long getRootId() {
+                return rootId;
+            }
+
+            @Override
+            public long getReplyCount() {
+                return count;
+            }
+        };
+    }
+
 }
\ No newline at end of file
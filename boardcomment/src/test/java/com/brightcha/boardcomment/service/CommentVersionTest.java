@@ -0,0 +1,60 @@
+package com.brightcha.boardcomment.service;
+
+import com.brightcha.boardcomment.dto.BoardRequestDto;
+import com.brightcha.boardcomment.dto.CommentRequestDto;
+import com.brightcha.boardcomment.dto.CommentResponseDto;
+import com.brightcha.boardcomment.dto.CommentUpdateRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("댓글 생성 버전 테스트")
+class CommentVersionTest {
+
+    @Autowired
+    private BoardService boardService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long boardId;
+
+    @AfterEach
+    void tearDown() {
+        if (boardId != null) {
+            boardService.deleteBoard(boardId);
+        }
+    }
+
+    @Test
+    @DisplayName("생성 응답의 버전은 커밋된 행의 버전과 같고, 그 버전으로 바로 수정할 수 있음")
+    void createdVersionMatchesCommittedRow() {
+        // given
+        boardId = boardService.createBoard(new BoardRequestDto("제목", "내용", "작성자")).id();
+
+        // when: 경로가 INSERT 이후에 채워지는 댓글과 답글 생성
+        CommentResponseDto comment = commentService.createComment(boardId, new CommentRequestDto("댓글", "작성자"));
+        CommentResponseDto reply = commentService.createReply(comment.id(), new CommentRequestDto("답글", "작성자"));
+
+        // then: 경로 저장이 버전을 올리지 않음
+        assertThat(committedVersion(comment.id())).isEqualTo(comment.version());
+        assertThat(committedVersion(reply.id())).isEqualTo(reply.version());
+
+        // then: 생성 응답의 버전을 If-Match로 보내도 충돌하지 않음
+        CommentResponseDto updated = commentService.updateComment(comment.id(),
+                new CommentUpdateRequestDto("수정"), comment.version());
+        assertThat(updated.version()).isEqualTo(comment.version() + 1);
+        assertThat(committedVersion(comment.id())).isEqualTo(updated.version());
+    }
+
+    private Long committedVersion(Long commentId) {
+        return jdbcTemplate.queryForObject("SELECT version FROM comments WHERE id = ?", Long.class, commentId);
+    }
+}
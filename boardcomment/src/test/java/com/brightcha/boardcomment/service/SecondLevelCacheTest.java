@@ -0,0 +1,96 @@
+package com.brightcha.boardcomment.service;
+
+import com.brightcha.boardcomment.common.exception.BoardCommentException;
+import com.brightcha.boardcomment.dto.BoardRequestDto;
+import com.brightcha.boardcomment.dto.BoardResponseDto;
+import com.brightcha.boardcomment.dto.CommentRequestDto;
+import com.brightcha.boardcomment.entity.Board;
+import com.brightcha.boardcomment.repository.CommentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("2차 캐시 테스트")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private BoardService boardService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (boardId != null) {
+            try {
+                boardService.deleteBoard(boardId);
+            } catch (BoardCommentException ignored) {
+                // 테스트에서 이미 삭제함
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("게시물 재조회는 2차 캐시에서 읽고, 소프트 삭제 후에는 캐시에서도 사라짐")
+    void boardIsCachedAndEvictedOnSoftDelete() {
+        // given: 게시물 생성 후 한 번 조회해 캐시에 적재
+        boardId = boardService.createBoard(new BoardRequestDto("제목", "내용", "작성자")).id();
+        boardService.getBoard(boardId);
+        statistics.clear();
+
+        // when: 다시 조회
+        BoardResponseDto board = boardService.getBoard(boardId);
+
+        // then: DB 대신 2차 캐시 적중
+        assertThat(board.id()).isEqualTo(boardId);
+        assertThat(statistics.getDomainDataRegionStatistics(Board.class.getName()).getHitCount()).isPositive();
+
+        // when: 소프트 삭제
+        boardService.deleteBoard(boardId);
+
+        // then: 캐시에 남은 삭제 전 상태를 돌려주지 않음
+        assertThat(entityManagerFactory.getCache().contains(Board.class, boardId)).isFalse();
+        assertThatThrownBy(() -> boardService.getBoard(boardId)).isInstanceOf(BoardCommentException.class);
+    }
+
+    @Test
+    @DisplayName("댓글 목록 쿼리는 캐시되고, 댓글 추가/삭제 시 무효화됨")
+    void commentQueryIsInvalidatedOnWrite() {
+        // given: 댓글 하나가 달린 게시물의 목록을 한 번 조회
+        boardId = boardService.createBoard(new BoardRequestDto("제목", "내용", "작성자")).id();
+        Long commentId = commentService.createComment(boardId, new CommentRequestDto("댓글", "작성자")).id();
+        commentService.getComments(boardId);
+        statistics.clear();
+
+        // when & then: 재조회는 쿼리 캐시 적중
+        assertThat(commentService.getComments(boardId)).hasSize(1);
+        assertThat(statistics.getQueryRegionStatistics(CommentRepository.BY_BOARD_QUERY_REGION).getHitCount()).isPositive();
+
+        // when & then: 댓글 추가 후에는 새 댓글이 보임
+        commentService.createComment(boardId, new CommentRequestDto("댓글2", "작성자"));
+        assertThat(commentService.getComments(boardId)).hasSize(2);
+
+        // when & then: 소프트 삭제 후에는 삭제된 댓글이 보이지 않음
+        commentService.deleteComment(commentId);
+        assertThat(commentService.getComments(boardId)).hasSize(1);
+    }
+}
@@ -0,0 +1,198 @@
+package com.brightcha.boardcomment.stream;
+
+import com.brightcha.boardcomment.event.DomainEvent;
+import com.brightcha.boardcomment.repository.CommentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("댓글 스트림 허브 테스트")
+class CommentStreamHubTest {
+
+    private static final Long BOARD_ID = 1L;
+    private static final Pattern EVENT_ID = Pattern.compile("^id:(\\w+-(\\d+))$", Pattern.MULTILINE);
+    private static final Pattern EVENT_NAME = Pattern.compile("^event:(\\w+)$", Pattern.MULTILINE);
+
+    private final CommentStreamHub hub = new CommentStreamHub(mock(CommentRepository.class),
+            new CommentStreamProperties(Duration.ofMinutes(1), 256, Duration.ofMinutes(5), 4, 300));
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 fan-out 스레드에서도 한 구독자에게는 id 순서대로 전달")
+    void deliversInOrderPerSubscriber() throws InterruptedException {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        hub.subscribe(BOARD_ID, null, emitter);
+
+        // when
+        for (long commentId = 1; commentId <= 200; commentId++) {
+            hub.handle(List.of(new DomainEvent.CommentDeleted(commentId, BOARD_ID)));
+        }
+
+        // then
+        List<Long> ids = emitter.awaitIds(200);
+        assertThat(ids).hasSize(200).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("재연결 시 재전송과 동시에 발생한 실시간 이벤트가 앞지르거나 겹치지 않음")
+    void replayIsOrderedWithLiveEvents() throws InterruptedException {
+        // given: 기존 구독자가 있는 게시물에 이벤트 50개
+        RecordingEmitter first = new RecordingEmitter(null);
+        hub.subscribe(BOARD_ID, null, first);
+        for (long commentId = 1; commentId <= 50; commentId++) {
+            hub.handle(List.of(new DomainEvent.CommentDeleted(commentId, BOARD_ID)));
+        }
+        first.awaitIds(50);
+        String lastSeen = first.rawIds.get(9);
+
+        // when: 10번째 이벤트까지 받은 클라이언트가 재연결하는 동안 새 이벤트 발생
+        Thread writer = new Thread(() -> {
+            for (long commentId = 51; commentId <= 100; commentId++) {
+                hub.handle(List.of(new DomainEvent.CommentDeleted(commentId, BOARD_ID)));
+            }
+        });
+        writer.start();
+        RecordingEmitter reconnected = new RecordingEmitter(null);
+        hub.subscribe(BOARD_ID, lastSeen, reconnected);
+        writer.join();
+
+        // then: 11번째부터 빠짐없이 순서대로
+        List<Long> all = first.awaitIds(100);
+        List<Long> ids = reconnected.awaitIds(90);
+        assertThat(ids).containsExactlyElementsOf(all.subList(10, 100));
+    }
+
+    @Test
+    @DisplayName("큐가 넘친 느린 구독자는 fan-out 스레드를 막지 않고 끊김")
+    void closesSubscriberThatFallsBehind() throws InterruptedException {
+        // given: 전송이 멈춘 구독자와 정상 구독자
+        CountDownLatch stuck = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(stuck);
+        RecordingEmitter healthy = new RecordingEmitter(null);
+        hub.subscribe(BOARD_ID, null, slow);
+        hub.subscribe(BOARD_ID, null, healthy);
+
+        // when: 큐 크기(300)를 넘는 이벤트. 정상 구독자는 100개마다 따라잡게 해 정상 구독자의 큐는 넘치지 않는다
+        for (long commentId = 1; commentId <= 400; commentId++) {
+            hub.handle(List.of(new DomainEvent.CommentDeleted(commentId, BOARD_ID)));
+            if (commentId % 100 == 0) {
+                healthy.awaitIds((int) commentId);
+            }
+        }
+
+        // then
+        assertThat(healthy.awaitIds(400)).hasSize(400);
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+        stuck.countDown();
+    }
+
+    @Test
+    @DisplayName("구독과 동시에 정리 작업이 돌아도 새 구독자는 이벤트를 받음")
+    void heartbeatDoesNotDetachNewSubscribers() throws InterruptedException {
+        for (long boardId = 100; boardId < 300; boardId++) {
+            // given: 구독자가 모두 떠난 게시물을 정리하는 heartbeat와 새 구독이 겹침
+            Thread cleaner = new Thread(hub::heartbeat);
+            cleaner.start();
+            RecordingEmitter emitter = new RecordingEmitter(null);
+            hub.subscribe(boardId, null, emitter);
+            cleaner.join();
+
+            // when
+            hub.handle(List.of(new DomainEvent.CommentDeleted(1L, boardId)));
+
+            // then
+            assertThat(emitter.awaitIds(1)).hasSize(1);
+        }
+        assertThat(hub.subscriberCount()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 발급한 Last-Event-ID로 재연결하면 빈 재전송 대신 reset")
+    void resetsForForeignEventId() throws InterruptedException {
+        // given: 다른 인스턴스에서 받은 id (순번만 보면 이 인스턴스의 보관 범위 안)
+        CommentStreamHub other = new CommentStreamHub(mock(CommentRepository.class),
+                new CommentStreamProperties(Duration.ofMinutes(1), 256, Duration.ofMinutes(5), 1, 300));
+        RecordingEmitter elsewhere = new RecordingEmitter(null);
+        other.subscribe(BOARD_ID, null, elsewhere);
+        other.handle(List.of(new DomainEvent.CommentDeleted(1L, BOARD_ID)));
+        elsewhere.awaitIds(1);
+        other.shutdown();
+        hub.subscribe(BOARD_ID, null, new RecordingEmitter(null));
+
+        // when
+        RecordingEmitter reconnected = new RecordingEmitter(null);
+        hub.subscribe(BOARD_ID, elsewhere.rawIds.get(0), reconnected);
+
+        // then
+        assertThat(reconnected.awaitNames(1)).containsExactly(CommentStreamHub.RESET_EVENT);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Long> ids = new CopyOnWriteArrayList<>();
+        private final List<String> rawIds = new CopyOnWriteArrayList<>();
+        private final List<String> names = new CopyOnWriteArrayList<>();
+        private final CountDownLatch block;
+
+        RecordingEmitter(CountDownLatch block) {
+            this.block = block;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (block != null) {
+                try {
+                    block.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            String text = builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining());
+            Matcher name = EVENT_NAME.matcher(text);
+            if (name.find()) {
+                names.add(name.group(1));
+            }
+            Matcher matcher = EVENT_ID.matcher(text);
+            if (matcher.find()) {
+                rawIds.add(matcher.group(1));
+                ids.add(Long.parseLong(matcher.group(2)));
+            }
+        }
+
+        List<Long> awaitIds(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (ids.size() < count && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+            return List.copyOf(ids);
+        }
+
+        List<String> awaitNames(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (names.size() < count && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+            return List.copyOf(names);
+        }
+    }
+}